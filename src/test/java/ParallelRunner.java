@@ -4,16 +4,23 @@ import org.junit.jupiter.api.Test;
 import com.intuit.karate.Results;
 import com.intuit.karate.Runner;
 
+import common_serverest.shard.RunsOnEveryShard;
+import common_serverest.warmup.Warmup;
+import karate_serverest.utils.VirtualThreadRunner;
+
 class ParallelRunner {
 
+    @RunsOnEveryShard  // VirtualThreadRunner runs only this shard's scenarios
     @Test
     void testParallel() {
-        Results results = Runner.path("classpath:serverest")
+        Warmup.ensure();  // handshakes outside the Karate timings (no-op if the launcher already ran it)
+        Runner.Builder<?> runner = Runner.path("classpath:karate_serverest")
                 .tags("~@ignore", "@regression")
                 .outputJunitXml(true)          // Jenkins/CI integration
                 .outputCucumberJson(true)      // Dashboard integration
-                .reportDir("target/karate-reports")
-                .parallel(6);  // 6 threads
+                .reportDir("target/karate-reports");
+        // 6 platform threads, or virtual threads with -Dserverest.karate.virtual=true
+        Results results = VirtualThreadRunner.parallel(runner, 6);
         assertEquals(0, results.getFailCount(), results.getErrorMessages());
     }
 
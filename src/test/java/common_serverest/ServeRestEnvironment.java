@@ -0,0 +1,137 @@
+package common_serverest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+import common_serverest.server.LocalServeRest;
+
+/**
+ * Resolves the ServeRest base URL shared by the Karate, RestAssured and Playwright suites.
+ *
+ * The environment is selected with the same switch Karate already reads:
+ *   mvn test -Dkarate.env=local   -> in-process stand-in server (no network)
+ *   mvn test -Dkarate.env=dev     -> http://localhost:3000
+ *   mvn test                      -> https://serverest.dev
+ *
+ * {@code -Dserverest.baseUrl=...} overrides the resolved URL for any environment.
+ */
+public final class ServeRestEnvironment {
+
+    public static final String ENV_PROPERTY = "karate.env";
+    public static final String BASE_URL_PROPERTY = "serverest.baseUrl";
+
+    public static final String PARALLELISM_PROPERTY = "serverest.parallelism";
+    public static final String NETWORK_PARALLELISM_KEY = "junit.jupiter.execution.parallel.config.network.parallelism";
+
+    /** Default cap of the custom {@code NetworkBoundParallelism} strategy. */
+    public static final int NETWORK_PARALLELISM = 32;
+
+    /** Threads of the Karate ParallelRunner and surefire's threadCount. */
+    private static final int SUITE_THREADS = 6;
+
+    public static final String LOCAL = "local";
+    public static final String DEV = "dev";
+
+    private static final String PUBLIC_URL = "https://serverest.dev";
+    private static final String DEV_URL = "http://localhost:3000";
+
+    private ServeRestEnvironment() {
+    }
+
+    public static String env() {
+        return System.getProperty(ENV_PROPERTY, "");
+    }
+
+    public static boolean isLocal() {
+        return LOCAL.equals(env());
+    }
+
+    public static String baseUrl() {
+        return baseUrl(env());
+    }
+
+    /**
+     * Test threads that may hit ServeRest at once in this JVM, used to size connection pools:
+     * {@code -Dserverest.parallelism}, else the larger of the JUnit parallelism and the suite's
+     * 6 runner threads. The pools are warmed up before the engine builds its configuration, so
+     * the JUnit parallelism is read from the two sources visible without JUnit: the system
+     * property, then {@code junit-platform.properties} on the test classpath
+     * ({@code src/test/java}). Parameters passed to the engine explicitly (surefire's
+     * {@code configurationParameters}, a suite's {@code @ConfigurationParameter}) are not seen
+     * here; they may only narrow the cap, which {@code NetworkBoundParallelism} checks. The value
+     * is the fixed parallelism or cores x dynamic factor when one of those strategies is selected,
+     * else the network cap ({@value #NETWORK_PARALLELISM_KEY}, default {@value #NETWORK_PARALLELISM}).
+     */
+    public static int parallelism() {
+        Integer configured = Integer.getInteger(PARALLELISM_PROPERTY);
+        if (configured != null && configured > 0) {
+            return configured;
+        }
+        int junit;
+        String strategy = junitParameter("junit.jupiter.execution.parallel.config.strategy", "custom");
+        if ("fixed".equals(strategy)) {
+            junit = Integer.parseInt(junitParameter("junit.jupiter.execution.parallel.config.fixed.parallelism",
+                    String.valueOf(SUITE_THREADS)).trim());
+        } else if ("dynamic".equals(strategy)) {
+            double factor = Double.parseDouble(
+                    junitParameter("junit.jupiter.execution.parallel.config.dynamic.factor", "1").trim());
+            junit = (int) Math.ceil(Runtime.getRuntime().availableProcessors() * factor);
+        } else {
+            junit = networkParallelism();
+        }
+        return Math.max(junit, SUITE_THREADS);
+    }
+
+    /**
+     * The global cap of {@code NetworkBoundParallelism}: {@code -Dserverest.parallelism}, else
+     * {@value #NETWORK_PARALLELISM_KEY} from the system property or {@code junit-platform.properties},
+     * else {@value #NETWORK_PARALLELISM}.
+     */
+    public static int networkParallelism() {
+        Integer configured = Integer.getInteger(PARALLELISM_PROPERTY);
+        if (configured != null && configured > 0) {
+            return configured;
+        }
+        return Integer.parseInt(junitParameter(NETWORK_PARALLELISM_KEY, String.valueOf(NETWORK_PARALLELISM)).trim());
+    }
+
+    private static String junitParameter(String key, String fallback) {
+        String value = System.getProperty(key);
+        return value != null ? value : JUnitProperties.INSTANCE.getProperty(key, fallback);
+    }
+
+    private static final class JUnitProperties {
+        private static final Properties INSTANCE = load();
+
+        private static Properties load() {
+            Properties properties = new Properties();
+            try (InputStream in = ServeRestEnvironment.class.getClassLoader()
+                    .getResourceAsStream("junit-platform.properties")) {
+                if (in != null) {
+                    properties.load(in);
+                }
+            } catch (IOException e) {
+                // as without the file: only system properties and defaults
+            }
+            return properties;
+        }
+    }
+
+    /**
+     * Resolves the base URL for an explicit environment name, as passed by karate-config.js.
+     */
+    public static String baseUrl(String env) {
+        String override = System.getProperty(BASE_URL_PROPERTY);
+        if (override != null && !override.isBlank()) {
+            return override;
+        }
+        if (LOCAL.equals(env)) {
+            return LocalServeRest.instance().baseUrl();
+        }
+        if (DEV.equals(env)) {
+            return DEV_URL;
+        }
+        return PUBLIC_URL;
+    }
+}
@@ -0,0 +1,120 @@
+package common_serverest.assertions;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoublePredicate;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of the field formats asserted by the Karate, RestAssured and Playwright suites.
+ *
+ * Each format is compiled once and looked up by name, so list validations do not recompile
+ * a pattern per element as {@code String.matches} and {@code matchesPattern} do. Evaluation
+ * counts, failures and time per format are logged when the JVM exits ({@link #report()}).
+ *
+ * <pre>{@code
+ * FieldFormats.EMAIL.assertValid(user.email());                 // JUnit
+ * .body("email", FieldFormats.EMAIL.matcher())                  // Hamcrest / RestAssured
+ * And match response.email == '#? isFormat("email", _)'         // Karate (karate-config.js)
+ * }</pre>
+ */
+public final class FieldFormats {
+
+    private static final Logger logger = LoggerFactory.getLogger(FieldFormats.class);
+
+    private static final Map<String, FieldFormat> REGISTRY = new ConcurrentHashMap<>();
+
+    public static final FieldFormat EMAIL = regex("email", ".+@.+\\..+");
+    public static final FieldFormat ID = regex("id", "[A-Za-z0-9]+");
+    public static final FieldFormat PERSON_NAME = regex("personName", "[A-Za-z\\s]+");
+    public static final FieldFormat ADMIN_FLAG = regex("adminFlag", "true|false");
+    public static final FieldFormat PRICE = number("price", "> 0 and < 100000", price -> price > 0 && price < 100000);
+    /** Any listed product: the shared public server holds prices of 100000 and more. */
+    public static final FieldFormat POSITIVE_PRICE = number("positivePrice", "> 0", price -> price > 0);
+    public static final FieldFormat STOCK = number("stock", ">= 0", stock -> stock >= 0);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            String report = report();
+            if (!report.isEmpty()) {
+                logger.info("field formats:{}{}", System.lineSeparator(), report);
+            }
+        }, "serverest-field-formats-report"));
+    }
+
+    private FieldFormats() {
+    }
+
+    /**
+     * Registers (or returns the already registered) format {@code name} for strings fully
+     * matching {@code regex}. Re-registering a name with another definition is rejected.
+     */
+    public static FieldFormat regex(String name, String regex) {
+        Pattern pattern = Pattern.compile(regex);
+        return register(new FieldFormat(name, "matching " + regex,
+                value -> value instanceof CharSequence text && pattern.matcher(text).matches()));
+    }
+
+    /**
+     * Unnamed pattern, registered under the pattern itself.
+     */
+    public static FieldFormat regex(String regex) {
+        FieldFormat existing = REGISTRY.get(regex);
+        return existing != null ? existing : regex(regex, regex);
+    }
+
+    /**
+     * Registers (or returns) format {@code name} for numbers accepted by {@code check}.
+     */
+    public static FieldFormat number(String name, String description, DoublePredicate check) {
+        return register(new FieldFormat(name, "number " + description,
+                value -> value instanceof Number number && check.test(number.doubleValue())));
+    }
+
+    public static FieldFormat get(String name) {
+        FieldFormat format = REGISTRY.get(name);
+        if (format == null) {
+            throw new IllegalArgumentException("Unknown field format " + name + ", registered: " + REGISTRY.keySet());
+        }
+        return format;
+    }
+
+    /**
+     * Entry point for Karate's {@code #?} markers.
+     */
+    public static boolean test(String name, Object value) {
+        return get(name).test(value);
+    }
+
+    /**
+     * One {@link FieldFormat#stats()} line per format that was evaluated, most expensive first.
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder();
+        REGISTRY.values().stream()
+                .filter(format -> format.evaluations() > 0)
+                .sorted((a, b) -> Long.compare(b.totalNanos(), a.totalNanos()))
+                .forEach(format -> {
+                    if (report.length() > 0) {
+                        report.append(System.lineSeparator());
+                    }
+                    report.append("  ").append(format.stats());
+                });
+        return report.toString();
+    }
+
+    private static FieldFormat register(FieldFormat candidate) {
+        FieldFormat format = REGISTRY.putIfAbsent(candidate.name(), candidate);
+        if (format == null) {
+            return candidate;
+        }
+        if (!format.description().equals(candidate.description())) {
+            throw new IllegalArgumentException("Field format " + candidate.name() + " is already registered as "
+                    + format.description());
+        }
+        return format;
+    }
+}
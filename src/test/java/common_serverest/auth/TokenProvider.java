@@ -0,0 +1,156 @@
+package common_serverest.auth;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import common_serverest.ServeRestEnvironment;
+import common_serverest.http.ServeRestClient;
+import common_serverest.http.ServeRestClient.Reply;
+
+/**
+ * Thread-safe cache of ServeRest bearer tokens, one per {@link Role}.
+ *
+ * The first call for a role creates a dedicated user and logs in; later calls return the
+ * cached token until it gets close to ServeRest's expiry, when only the login is repeated.
+ * If the login stops working (user removed by another test), the user is recreated.
+ *
+ * Tokens are shared across threads and test classes, so never use them for state that
+ * belongs to a single test, such as the one cart a user may hold.
+ *
+ * Tunables: {@code -Dserverest.token.ttlSeconds} (default 600, ServeRest's JWT lifetime) and
+ * {@code -Dserverest.token.refreshMarginSeconds} (default 60).
+ *
+ * Logins happen while holding a per-role {@link ReentrantLock} rather than a monitor, so
+ * virtual threads waiting on the HTTP call unmount instead of pinning their carrier.
+ */
+public final class TokenProvider {
+
+    public enum Role {
+        ADMIN(true),
+        USER(false);
+
+        private final boolean admin;
+
+        Role(boolean admin) {
+            this.admin = admin;
+        }
+    }
+
+    private record Credentials(String email, String password) {
+    }
+
+    private record CachedToken(String value, long refreshAt) {
+    }
+
+    private static final String PASSWORD = "SenhaSegura@123";
+    private static final TokenProvider SHARED = new TokenProvider(ServeRestEnvironment.baseUrl());
+
+    private final ServeRestClient client;
+    private final long refreshAfterMillis;
+    private final Map<Role, ReentrantLock> locks = new EnumMap<>(Role.class);
+    private final Map<Role, Credentials> credentials = new ConcurrentHashMap<>();
+    private final Map<Role, CachedToken> tokens = new ConcurrentHashMap<>();
+
+    public TokenProvider(String baseUrl) {
+        this.client = new ServeRestClient(baseUrl);
+        long ttl = Long.getLong("serverest.token.ttlSeconds", 600);
+        long margin = Long.getLong("serverest.token.refreshMarginSeconds", 60);
+        this.refreshAfterMillis = Math.max(0, ttl - margin) * 1000;
+        for (Role role : Role.values()) {
+            locks.put(role, new ReentrantLock());
+        }
+    }
+
+    /**
+     * JVM-wide provider pointed at {@link ServeRestEnvironment#baseUrl()}.
+     */
+    public static TokenProvider shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns a valid "Bearer ..." token for the role, logging in only when needed.
+     */
+    public String token(Role role) {
+        ReentrantLock lock = locks.get(role);
+        lock.lock();
+        try {
+            CachedToken cached = tokens.get(role);
+            if (cached != null && System.currentTimeMillis() < cached.refreshAt()) {
+                return cached.value();
+            }
+            return login(role);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the cached token and logs in again, e.g. after an unexpected 401.
+     */
+    public String refresh(Role role) {
+        ReentrantLock lock = locks.get(role);
+        lock.lock();
+        try {
+            return login(role);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forgets the cached token; the next {@link #token(Role)} call logs in again.
+     */
+    public void invalidate(Role role) {
+        tokens.remove(role);
+    }
+
+    private String login(Role role) {
+        Credentials user = credentials.get(role);
+        if (user != null) {
+            String token = postLogin(user);
+            if (token != null) {
+                return cache(role, token);
+            }
+        }
+        user = createUser(role);
+        credentials.put(role, user);
+        String token = postLogin(user);
+        if (token == null) {
+            throw new IllegalStateException("Login failed for freshly created " + role + " user " + user.email());
+        }
+        return cache(role, token);
+    }
+
+    private String cache(Role role, String token) {
+        tokens.put(role, new CachedToken(token, System.currentTimeMillis() + refreshAfterMillis));
+        return token;
+    }
+
+    private Credentials createUser(Role role) {
+        String email = "token." + role.name().toLowerCase() + "." + UUID.randomUUID() + "@example.com";
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("nome", "Token " + role.name().toLowerCase());
+        payload.put("email", email);
+        payload.put("password", PASSWORD);
+        payload.put("administrador", String.valueOf(role.admin));
+        Reply reply = client.post("/usuarios", payload);
+        if (reply.status() != 201) {
+            throw new IllegalStateException("Could not create " + role + " user: HTTP " + reply.status()
+                    + " " + reply.body());
+        }
+        return new Credentials(email, PASSWORD);
+    }
+
+    private String postLogin(Credentials user) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("email", user.email());
+        payload.put("password", user.password());
+        Reply reply = client.post("/login", payload);
+        return reply.status() == 200 ? reply.text("authorization") : null;
+    }
+}
@@ -0,0 +1,108 @@
+package common_serverest.data;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Background supply of pre-generated names, emails, products and passwords for load runs.
+ *
+ * One daemon thread keeps a {@link RingBuffer} per {@link Kind} topped up; callers take
+ * values without blocking. When a caller finds its buffer empty it generates the value
+ * inline, the underrun is counted, and the first one per kind is logged so the buffer size
+ * can be raised. A summary is logged when the JVM exits.
+ *
+ * Enabled with {@code -Dserverest.data.buffer=true}; {@code -Dserverest.data.bufferSize}
+ * sets the per-kind capacity (default 4096).
+ */
+final class DataSupply {
+
+    enum Kind {
+        NAME(TestDataGenerator::generateName),
+        EMAIL(TestDataGenerator::generateEmail),
+        PRODUCT(TestDataGenerator::generateProduct),
+        PASSWORD(TestDataGenerator::generatePassword);
+
+        private final Supplier<String> generator;
+
+        Kind(Supplier<String> generator) {
+            this.generator = generator;
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSupply.class);
+
+    private static final class Holder {
+        private static final DataSupply INSTANCE = new DataSupply(Integer.getInteger("serverest.data.bufferSize", 4096));
+    }
+
+    private final Map<Kind, RingBuffer<String>> buffers = new EnumMap<>(Kind.class);
+    private final Map<Kind, AtomicBoolean> caughtUp = new EnumMap<>(Kind.class);
+    private final Thread producer;
+
+    private DataSupply(int capacity) {
+        for (Kind kind : Kind.values()) {
+            buffers.put(kind, new RingBuffer<>(capacity));
+            caughtUp.put(kind, new AtomicBoolean());
+        }
+        producer = new Thread(this::produce, "serverest-data-supply");
+        producer.setDaemon(true);
+        producer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> logger.info("data supply: {}", report()),
+                "serverest-data-supply-report"));
+    }
+
+    static DataSupply instance() {
+        return Holder.INSTANCE;
+    }
+
+    String next(Kind kind) {
+        String value = buffers.get(kind).poll();
+        if (value != null) {
+            return value;
+        }
+        if (caughtUp.get(kind).compareAndSet(false, true)) {
+            logger.warn("callers caught up with the data supply for {} (capacity {}); generating inline, "
+                    + "consider raising -Dserverest.data.bufferSize", kind, buffers.get(kind).capacity());
+        }
+        LockSupport.unpark(producer);
+        return kind.generator.get();
+    }
+
+    /**
+     * Values served from the buffers and underruns (values generated inline), per kind.
+     */
+    String report() {
+        StringBuilder report = new StringBuilder();
+        for (Kind kind : Kind.values()) {
+            RingBuffer<String> buffer = buffers.get(kind);
+            if (report.length() > 0) {
+                report.append(", ");
+            }
+            report.append(kind).append(" served=").append(buffer.served())
+                    .append(" underruns=").append(buffer.underruns());
+        }
+        return report.toString();
+    }
+
+    private void produce() {
+        while (true) {
+            boolean produced = false;
+            for (Kind kind : Kind.values()) {
+                RingBuffer<String> buffer = buffers.get(kind);
+                if (!buffer.isFull()) {
+                    buffer.offer(kind.generator.get());
+                    produced = true;
+                }
+            }
+            if (!produced) {
+                LockSupport.parkNanos(1_000_000L);
+            }
+        }
+    }
+}
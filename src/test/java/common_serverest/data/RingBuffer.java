@@ -0,0 +1,73 @@
+package common_serverest.data;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free single-producer / multi-consumer ring of pre-generated values.
+ *
+ * Consumers read the slot first and then claim it with a CAS on {@code head}; the
+ * producer never overwrites a slot until {@code head} has moved past it, so a successful
+ * claim always returns the value that was read. {@link #poll()} never waits: when the
+ * consumers have caught up with the producer it returns {@code null} and counts an underrun.
+ */
+final class RingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private volatile long tail;
+    private final LongAdder served = new LongAdder();
+    private final LongAdder underruns = new LongAdder();
+
+    RingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    T poll() {
+        while (true) {
+            long h = head.get();
+            if (h >= tail) {
+                underruns.increment();
+                return null;
+            }
+            T value = slots.get((int) (h & mask));
+            if (head.compareAndSet(h, h + 1)) {
+                served.increment();
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Producer only: publishes one value, or returns false when the ring is full.
+     */
+    boolean offer(T value) {
+        long t = tail;
+        if (t - head.get() > mask) {
+            return false;
+        }
+        slots.set((int) (t & mask), value);
+        tail = t + 1;
+        return true;
+    }
+
+    boolean isFull() {
+        return tail - head.get() > mask;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    long served() {
+        return served.sum();
+    }
+
+    long underruns() {
+        return underruns.sum();
+    }
+}
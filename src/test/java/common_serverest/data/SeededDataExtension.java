@@ -0,0 +1,16 @@
+package common_serverest.data;
+
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Opens a {@link TestDataGenerator} scope per JUnit test, keyed by the test's unique id,
+ * so seeded runs generate the same data for the same test on every run.
+ */
+public class SeededDataExtension implements BeforeEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        TestDataGenerator.beginTest(context.getUniqueId());
+    }
+}
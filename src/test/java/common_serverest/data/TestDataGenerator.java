@@ -0,0 +1,308 @@
+package common_serverest.data;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.lang.ref.Cleaner;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.javafaker.Faker;
+
+import common_serverest.ServeRestEnvironment;
+
+/**
+ * Thread-safe test data shared by the Karate, RestAssured and Playwright {@code FakerUtils}.
+ *
+ * Every email and product name carries a unique token: the run id (start time + pid, so
+ * parallel forks never overlap) followed by a per-thread sequence. Threads reserve sequence
+ * numbers in blocks of {@link #STRIPE_SIZE} from one shared counter and then count locally,
+ * so the hot path touches no shared state. Faker instances are not thread-safe and are
+ * kept one per thread; states of finished virtual threads are recycled.
+ *
+ * With {@code -Dserverest.data.mode=load} names and emails skip Faker entirely and are built
+ * from the token alone. {@code -Dserverest.runId} pins the run id. With
+ * {@code -Dserverest.data.buffer=true} values come pre-generated from {@link DataSupply}.
+ *
+ * Seeded runs ({@code -Dserverest.seed=<long>} or {@link #useSeed(long)} from karate-config.js)
+ * are reproducible: {@link #beginTest(String)} reseeds the calling thread's Faker and restarts
+ * its sequence under a key derived from the seed and a stable test identity (feature, line and
+ * example index for Karate, the unique id for JUnit), so a test gets the same values on every
+ * run no matter which thread or in which order it runs. Tokens stay unique because the key is
+ * part of them. Buffering is ignored while seeded. The seed is logged and added to Allure's
+ * {@code environment.properties}, under a file lock since every surefire fork updates it; the run
+ * id goes under a per-fork key ({@code serverest.runId.<fork>}) when {@code -Dserverest.fork} is set.
+ *
+ * Exact replay needs a server that starts empty, i.e. the {@code local} stand-in: there the run
+ * id becomes {@code s<seed>}. Against any other server the entities of an earlier run with the
+ * same seed still exist, so the run id also carries the start time and pid; Faker names and
+ * passwords replay, emails and product names stay unique. {@code -Dserverest.runId} pins the
+ * run id in both cases.
+ */
+public final class TestDataGenerator {
+
+    static final int STRIPE_SIZE = 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(TestDataGenerator.class);
+
+    private static final boolean LOAD_MODE = "load".equalsIgnoreCase(System.getProperty("serverest.data.mode"));
+    private static final boolean BUFFERED = Boolean.getBoolean("serverest.data.buffer");
+    private static final String FORK = System.getProperty("serverest.fork", "");
+
+    private static volatile Long seed = Long.getLong("serverest.seed");
+    private static volatile String runId = runIdFor(seed);
+
+    private static final AtomicLong NEXT_STRIPE = new AtomicLong();
+    private static final Map<String, AtomicInteger> OCCURRENCES = new ConcurrentHashMap<>();
+    private static final ThreadLocal<ThreadState> STATE = ThreadLocal.withInitial(TestDataGenerator::newState);
+    /** States of finished virtual threads, so a scenario per virtual thread does not build a Faker each. */
+    private static final Queue<ThreadState> RECYCLED = new ConcurrentLinkedQueue<>();
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    static {
+        recordSeed();
+    }
+
+    private static final class ThreadState {
+        private final Random random = new Random();
+        private final Faker faker = new Faker(random);
+        private long next;
+        private long limit;
+        private String scope;
+        private long scoped;
+
+        long nextSequence() {
+            if (next == limit) {
+                next = NEXT_STRIPE.getAndIncrement() * STRIPE_SIZE;
+                limit = next + STRIPE_SIZE;
+            }
+            return next++;
+        }
+
+        void enterScope(long seed, String name) {
+            long key = mix(seed, name);
+            random.setSeed(key);
+            scope = Long.toString(key >>> 24, 36);
+            scoped = 0;
+        }
+    }
+
+    private TestDataGenerator() {
+    }
+
+    private static ThreadState newState() {
+        Thread thread = Thread.currentThread();
+        if (!thread.isVirtual()) {
+            return new ThreadState();
+        }
+        ThreadState state = RECYCLED.poll();
+        if (state == null) {
+            state = new ThreadState();
+        }
+        // handed back once the thread is unreachable; its sequence stripe carries on
+        ThreadState reusable = state;
+        CLEANER.register(thread, () -> {
+            reusable.scope = null;
+            RECYCLED.offer(reusable);
+        });
+        return state;
+    }
+
+    public static String runId() {
+        return runId;
+    }
+
+    public static boolean loadMode() {
+        return LOAD_MODE;
+    }
+
+    /**
+     * Seed of this run, or {@code null} when data is not reproducible.
+     */
+    public static Long seed() {
+        return seed;
+    }
+
+    /**
+     * Fixes the seed for this JVM (the first value wins; a different one is rejected).
+     */
+    public static synchronized void useSeed(long value) {
+        if (seed == null) {
+            seed = value;
+            runId = runIdFor(seed);
+            recordSeed();
+        } else if (seed != value) {
+            throw new IllegalStateException("Test data seed already set to " + seed + ", cannot switch to " + value);
+        }
+    }
+
+    /**
+     * Starts the data scope of a test on the calling thread; no-op unless seeded. The id must
+     * identify the test, not its execution (e.g. {@code Users.feature:42:3}). The same test
+     * run again in this JVM (by another runner) gets the next scope of that id; such runs are
+     * identical, so which one gets which scope does not matter.
+     */
+    public static void beginTest(String testId) {
+        Long current = seed;
+        if (current != null) {
+            int occurrence = OCCURRENCES.computeIfAbsent(testId, id -> new AtomicInteger()).getAndIncrement();
+            STATE.get().enterScope(current, testId + "#" + occurrence);
+        }
+    }
+
+    /**
+     * Token unique across threads and forks of this run, e.g. {@code lx2k9c1a3f.2s}.
+     */
+    public static String uniqueToken() {
+        ThreadState state = state();
+        if (state.scope != null) {
+            return runId + "." + state.scope + "." + Long.toString(state.scoped++, 36);
+        }
+        return runId + "." + Long.toString(state.nextSequence(), 36);
+    }
+
+    public static String name() {
+        return BUFFERED && seed == null ? DataSupply.instance().next(DataSupply.Kind.NAME) : generateName();
+    }
+
+    public static String email() {
+        return BUFFERED && seed == null ? DataSupply.instance().next(DataSupply.Kind.EMAIL) : generateEmail();
+    }
+
+    public static String product() {
+        return BUFFERED && seed == null ? DataSupply.instance().next(DataSupply.Kind.PRODUCT) : generateProduct();
+    }
+
+    public static String password() {
+        return BUFFERED && seed == null ? DataSupply.instance().next(DataSupply.Kind.PASSWORD) : generatePassword();
+    }
+
+    static String generateName() {
+        if (LOAD_MODE) {
+            return "User " + uniqueToken();
+        }
+        return state().faker.name().fullName();
+    }
+
+    static String generateEmail() {
+        if (LOAD_MODE) {
+            return "user." + uniqueToken() + "@gmail.com";
+        }
+        return asciiLocalPart(state().faker.name().firstName()) + "." + uniqueToken() + "@gmail.com";
+    }
+
+    static String generateProduct() {
+        if (LOAD_MODE) {
+            return "Product " + uniqueToken();
+        }
+        return state().faker.commerce().productName() + " " + uniqueToken();
+    }
+
+    static String generatePassword() {
+        // minLength 8, maxLength 16 for reasonably strong test passwords
+        return state().faker.internet().password(8, 16);
+    }
+
+    private static ThreadState state() {
+        ThreadState state = STATE.get();
+        Long current = seed;
+        if (current != null && state.scope == null) {
+            // outside any test: scope by fork and thread name
+            state.enterScope(current, "thread:" + FORK + ":" + Thread.currentThread().getName());
+        }
+        return state;
+    }
+
+    private static String runIdFor(Long seed) {
+        if (System.getProperty("serverest.runId") != null) {
+            return System.getProperty("serverest.runId");
+        }
+        String started = Long.toString(System.currentTimeMillis(), 36) + Long.toString(ProcessHandle.current().pid(), 36);
+        if (seed == null) {
+            return started;
+        }
+        String seeded = "s" + Long.toString(seed, 36).replace('-', 'n');
+        if (ServeRestEnvironment.isLocal() && System.getProperty(ServeRestEnvironment.BASE_URL_PROPERTY) == null) {
+            return seeded;
+        }
+        logger.warn("seeded run against a shared server: emails and product names get run id {}.{} so they "
+                + "do not clash with an earlier run; exact replay needs -Dkarate.env=local", seeded, started);
+        return seeded + "." + started;
+    }
+
+    /**
+     * 64-bit FNV-1a of the name, mixed with the seed.
+     */
+    private static long mix(long seed, String name) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < name.length(); i++) {
+            hash ^= name.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash ^ (seed * 0x9E3779B97F4A7C15L);
+    }
+
+    private static void recordSeed() {
+        Long current = seed;
+        logger.info("test data seed: {} (run id {})", current == null ? "none" : current, runId);
+        String results = System.getProperty("allure.results.directory");
+        if (results == null) {
+            return;
+        }
+        try {
+            Path directory = Path.of(results.trim());
+            Files.createDirectories(directory);
+            Path file = directory.resolve("environment.properties");
+            try (FileChannel lockFile = FileChannel.open(directory.resolve("environment.properties.lock"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = lockFile.lock();
+                try {
+                    // other forks, CI and allure plugins may have put their entries there already
+                    Properties properties = new Properties();
+                    if (Files.isRegularFile(file)) {
+                        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                            properties.load(reader);
+                        }
+                    }
+                    properties.setProperty("serverest.seed", current == null ? "none" : current.toString());
+                    properties.setProperty(FORK.isEmpty() ? "serverest.runId" : "serverest.runId." + FORK, runId);
+                    properties.setProperty("serverest.data.mode", LOAD_MODE ? "load" : "faker");
+                    Path temporary = directory.resolve("environment.properties.tmp");
+                    try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                        properties.store(writer, null);
+                    }
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("could not record the test data seed in {}", results, e);
+        }
+    }
+
+    private static String asciiLocalPart(String value) {
+        String plain = Normalizer.normalize(value, Normalizer.Form.NFD)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9]", "");
+        return plain.isEmpty() ? "user" : plain;
+    }
+}
@@ -0,0 +1,154 @@
+package common_serverest.fixtures;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import common_serverest.auth.TokenProvider;
+import common_serverest.auth.TokenProvider.Role;
+import common_serverest.data.TestDataGenerator;
+import common_serverest.http.ServeRestClient;
+
+/**
+ * Declarative setup for cart tests: a new logged-in user, optionally with any cart cancelled,
+ * plus optionally a product, built as a graph of {@link CompletableFuture}s on
+ * {@link ServeRestClient}'s virtual threads.
+ *
+ * Only the real dependencies are chained (login after user creation, cart cancellation after
+ * login); the product is created with the cached admin token at the same time, so the setup
+ * takes as long as its slowest branch instead of the sum of all calls.
+ *
+ * <pre>{@code
+ * CartFixture fixture = CartSetup.create()
+ *         .admin(true)
+ *         .cancelCart()
+ *         .product(150, 10, "Product created for cart lifecycle test")
+ *         .ready();
+ * }</pre>
+ *
+ * Default emails and product names come from {@link TestDataGenerator} on the calling thread,
+ * before anything is dispatched, so seeded runs stay reproducible.
+ */
+public final class CartSetup {
+
+    /**
+     * A logged-in user and, when requested, a product ({@code productId} is null otherwise).
+     */
+    public record CartFixture(String userId, String email, String password, String token, String productId) {
+    }
+
+    private static final String PASSWORD = "SenhaSegura@123";
+
+    private final ServeRestClient client;
+    private final TokenProvider tokens;
+    private String userName = "Cart Default User";
+    private String email;
+    private String password = PASSWORD;
+    private boolean admin;
+    private boolean cancelCart;
+    private Map<String, Object> product;
+
+    private CartSetup(ServeRestClient client, TokenProvider tokens) {
+        this.client = client;
+        this.tokens = tokens;
+    }
+
+    /**
+     * Setup against the environment's shared client and token cache.
+     */
+    public static CartSetup create() {
+        return new CartSetup(ServeRestClient.shared(), TokenProvider.shared());
+    }
+
+    public static CartSetup on(ServeRestClient client, TokenProvider tokens) {
+        return new CartSetup(client, tokens);
+    }
+
+    public CartSetup user(String name, String email, String password) {
+        this.userName = name;
+        this.email = email;
+        this.password = password;
+        return this;
+    }
+
+    public CartSetup admin(boolean admin) {
+        this.admin = admin;
+        return this;
+    }
+
+    /**
+     * Cancels the user's cart, if any, once logged in.
+     */
+    public CartSetup cancelCart() {
+        this.cancelCart = true;
+        return this;
+    }
+
+    public CartSetup product(int price, int quantity, String description) {
+        return product(TestDataGenerator.product(), price, quantity, description);
+    }
+
+    public CartSetup product(String name, int price, int quantity, String description) {
+        product = new LinkedHashMap<>();
+        product.put("nome", name);
+        product.put("preco", price);
+        product.put("descricao", description);
+        product.put("quantidade", quantity);
+        return this;
+    }
+
+    /**
+     * Starts every step at once, honouring only the dependencies described above.
+     */
+    public CompletableFuture<CartFixture> start() {
+        String email = this.email != null ? this.email : TestDataGenerator.email();
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("nome", userName);
+        user.put("email", email);
+        user.put("password", password);
+        user.put("administrador", String.valueOf(admin));
+        Map<String, Object> credentials = new LinkedHashMap<>();
+        credentials.put("email", email);
+        credentials.put("password", password);
+
+        CompletableFuture<String> userId = client.postAsync("/usuarios", null, user)
+                .thenApply(reply -> reply.expect(201, "create user " + email).text("_id"));
+
+        CompletableFuture<String> token = userId
+                .thenCompose(id -> client.postAsync("/login", null, credentials))
+                .thenApply(reply -> reply.expect(200, "log in " + email).text("authorization"));
+        if (cancelCart) {
+            token = token.thenCompose(value -> client.deleteAsync("/carrinhos/cancelar-compra", value)
+                    .thenApply(reply -> reply.expect(200, "cancel the cart of " + email))
+                    .thenApply(reply -> value));
+        }
+
+        CompletableFuture<String> productId;
+        if (product == null) {
+            productId = CompletableFuture.completedFuture(null);
+        } else {
+            Map<String, Object> body = product;
+            productId = CompletableFuture.supplyAsync(() -> tokens.token(Role.ADMIN), ServeRestClient.executor())
+                    .thenCompose(adminToken -> client.postAsync("/produtos", adminToken, body))
+                    .thenApply(reply -> reply.expect(201, "create product " + body.get("nome")).text("_id"));
+        }
+
+        // the token is only issued after the user exists, so userId is complete here
+        return token.thenCombine(productId, (value, id) -> new CartFixture(userId.join(), email, password, value, id));
+    }
+
+    /**
+     * Runs the setup and waits for it; a failed step is rethrown as is.
+     */
+    public CartFixture ready() {
+        try {
+            return start().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
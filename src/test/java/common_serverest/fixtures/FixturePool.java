@@ -0,0 +1,206 @@
+package common_serverest.fixtures;
+
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import common_serverest.auth.TokenProvider;
+import common_serverest.fixtures.CartSetup.CartFixture;
+import common_serverest.http.ServeRestClient;
+import common_serverest.http.ServeRestClient.Reply;
+
+/**
+ * Pool of ready-made "fresh user without cart + in-stock product" fixtures.
+ *
+ * Fixtures are provisioned on background virtual threads and handed out from a
+ * lock-free queue: {@link #lease()} never waits for the background work, and when the
+ * queue is empty it provisions on the caller's thread instead. Every lease tops the pool
+ * back up to its target size.
+ *
+ * A lease is {@link AutoCloseable}; closing it gives the fixture back. The pool cancels the
+ * user's cart in the background (restoring stock) and requeues the fixture while the
+ * product still has {@link #MIN_STOCK} units, otherwise it is retired.
+ * {@link PooledFixture#retire()} drops a fixture the test left in an unknown state.
+ *
+ * Sizing: {@code -Dserverest.pool.size} (default 8).
+ */
+public final class FixturePool {
+
+    public static final int PRODUCT_PRICE = 150;
+    public static final int PRODUCT_STOCK = 10;
+    public static final int MIN_STOCK = 5;
+
+    private static final String PASSWORD = "SenhaSegura@123";
+    private static final long TOKEN_MAX_AGE_MILLIS = 540_000L;
+
+    private static final class Holder {
+        private static final FixturePool INSTANCE = new FixturePool(
+                ServeRestClient.shared(),
+                TokenProvider.shared(),
+                Integer.getInteger("serverest.pool.size", 8));
+    }
+
+    private final ServeRestClient client;
+    private final TokenProvider tokens;
+    private final int target;
+    private final Queue<PooledFixture> available = new ConcurrentLinkedQueue<>();
+    /** Fixtures queued plus fixtures being provisioned. */
+    private final AtomicInteger supply = new AtomicInteger();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public FixturePool(ServeRestClient client, TokenProvider tokens, int target) {
+        this.client = client;
+        this.tokens = tokens;
+        this.target = target;
+        replenish();
+    }
+
+    /**
+     * JVM-wide pool; the first call starts provisioning in the background.
+     */
+    public static FixturePool shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Hands out a fixture without blocking on the background provisioning.
+     */
+    public PooledFixture lease() {
+        PooledFixture fixture;
+        while ((fixture = available.poll()) != null) {
+            supply.decrementAndGet();
+            if (System.currentTimeMillis() - fixture.issuedAt < TOKEN_MAX_AGE_MILLIS) {
+                break;
+            }
+        }
+        replenish();
+        return fixture != null ? fixture : provision();
+    }
+
+    public int available() {
+        return available.size();
+    }
+
+    private void replenish() {
+        int current;
+        while ((current = supply.get()) < target) {
+            if (supply.compareAndSet(current, current + 1)) {
+                executor.execute(() -> {
+                    try {
+                        available.offer(provision());
+                    } catch (RuntimeException e) {
+                        supply.decrementAndGet();
+                    }
+                });
+            }
+        }
+    }
+
+    private PooledFixture provision() {
+        // user creation + login and product creation run side by side
+        CartFixture ready = CartSetup.on(client, tokens)
+                .user("Pool User", "pool." + UUID.randomUUID() + "@example.com", PASSWORD)
+                .product("Pool product " + UUID.randomUUID(), PRODUCT_PRICE, PRODUCT_STOCK,
+                        "Product provisioned by FixturePool")
+                .ready();
+
+        PooledFixture fixture = new PooledFixture(this, ready.userId(), ready.email(), ready.password(),
+                ready.productId());
+        fixture.token = ready.token();
+        fixture.issuedAt = System.currentTimeMillis();
+        return fixture;
+    }
+
+    void release(PooledFixture fixture) {
+        executor.execute(() -> {
+            try {
+                Reply cancelled = client.delete("/carrinhos/cancelar-compra", fixture.token());
+                Reply product = client.get("/produtos/" + fixture.productId());
+                boolean reusable = cancelled.status() == 200
+                        && product.status() == 200
+                        && product.body().path("quantidade").asInt() >= MIN_STOCK;
+                if (reusable && reserveSlot()) {
+                    fixture.done.set(false);
+                    available.offer(fixture);
+                }
+            } catch (RuntimeException e) {
+                // retired: the pool provisions a replacement on the next lease
+            }
+        });
+    }
+
+    private boolean reserveSlot() {
+        int current;
+        while ((current = supply.get()) < target) {
+            if (supply.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A leased user (no cart, logged in) plus a product with {@link #PRODUCT_STOCK} units.
+     */
+    public static final class PooledFixture implements AutoCloseable {
+
+        private final FixturePool pool;
+        private final String userId;
+        private final String email;
+        private final String password;
+        private final String productId;
+        private volatile String token;
+        private volatile long issuedAt;
+        /** Set by the first close/retire, so concurrent closers requeue the fixture once. */
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private PooledFixture(FixturePool pool, String userId, String email, String password, String productId) {
+            this.pool = pool;
+            this.userId = userId;
+            this.email = email;
+            this.password = password;
+            this.productId = productId;
+        }
+
+        public String userId() {
+            return userId;
+        }
+
+        public String email() {
+            return email;
+        }
+
+        public String password() {
+            return password;
+        }
+
+        public String token() {
+            return token;
+        }
+
+        public String productId() {
+            return productId;
+        }
+
+        /**
+         * Gives the fixture back to the pool (its cart, if any, is cancelled in the background).
+         */
+        @Override
+        public void close() {
+            if (done.compareAndSet(false, true)) {
+                pool.release(this);
+            }
+        }
+
+        /**
+         * Drops the fixture instead of returning it to the pool.
+         */
+        public void retire() {
+            done.set(true);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package common_serverest.http;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import common_serverest.ServeRestEnvironment;
+
+/**
+ * Client-side limit on the requests in flight to ServeRest, shared by every HTTP stack in the
+ * JVM ({@link ServeRestClient}, the RestAssured filter chain, the Playwright request context of
+ * {@code BaseApiTest} and Karate's client factory). Surefire forks, JUnit parallelism and Karate
+ * threads multiply; this is the one place that decides how many requests actually go out.
+ *
+ * The limit follows additive-increase/multiplicative-decrease:
+ * <ul>
+ * <li>a fast, successful response while the limit is in use adds {@code 1/limit} (about +1 per
+ * round of requests);</li>
+ * <li>a 429, a 5xx or a failed exchange halves it;</li>
+ * <li>while every slot is in use, a smoothed latency above {@code latencyTolerance} times the
+ * baseline (and at least {@code latencyFloorMillis}) takes 10% off.</li>
+ * </ul>
+ * The baseline is a slow moving average of the same latencies, so the two compare the same mix
+ * of fast and slow endpoints and only a latency gradient counts; a limit that is not saturated
+ * is never cut for latency, since its queueing is not what slows the server down.
+ * At most one decrease per smoothed round-trip, so a burst of errors from one round counts once.
+ *
+ * Settings ({@code -Dserverest.limit.*}): {@code enabled} (true; false only measures),
+ * {@code initial} ({@link ServeRestEnvironment#parallelism()}), {@code min} (1), {@code max}
+ * (256), {@code latencyTolerance} (2.0), {@code latencyFloorMillis} (50). Every change of the
+ * limit is a decision: logged at debug, written at exit with its reason to
+ * {@code target/limits/limit-<fork>.csv}, next to the totals in {@code limit-<fork>.properties}
+ * ({@code -Dserverest.limit.dir}); {@link #metrics()} gives the totals at any time.
+ */
+public final class AdaptiveLimit {
+
+    static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty("serverest.limit.enabled", "true"));
+    static final int MIN = Math.max(1, Integer.getInteger("serverest.limit.min", 1));
+    static final int MAX = Math.max(MIN, Integer.getInteger("serverest.limit.max", 256));
+    static final double LATENCY_TOLERANCE = Double.parseDouble(System.getProperty("serverest.limit.latencyTolerance", "2.0"));
+    static final long LATENCY_FLOOR_NANOS = TimeUnit.MILLISECONDS.toNanos(Long.getLong("serverest.limit.latencyFloorMillis", 50));
+    static final String REPORT_DIR = System.getProperty("serverest.limit.dir", "target/limits");
+    static final int MAX_DECISIONS = 10_000;
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveLimit.class);
+
+    private static final class Holder {
+        private static final AdaptiveLimit INSTANCE = new AdaptiveLimit(
+                Integer.getInteger("serverest.limit.initial", ServeRestEnvironment.parallelism()));
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(INSTANCE::report, "serverest-limit-report"));
+        }
+    }
+
+    /**
+     * A change of the limit and what caused it.
+     */
+    public record Decision(long atMillis, String reason, int from, int to, int inFlight, long latencyMillis, int status) {
+
+        static final String HEADER = "atMillis,reason,from,to,inFlight,latencyMillis,status";
+
+        String csv() {
+            return atMillis + "," + reason + "," + from + "," + to + "," + inFlight + "," + latencyMillis + "," + status;
+        }
+    }
+
+    /**
+     * Totals since the JVM started.
+     */
+    public record Metrics(int limit, int inFlight, int lowestLimit, int highestLimit, long requests, long throttled,
+            long serverErrors, long failures, long slow, long increases, long decreases, long waits, long waitMillis,
+            double baselineMillis, double smoothedMillis) {
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "limit %d (range %d-%d), %d requests, %d throttled (429), %d 5xx, %d failed, %d slow, "
+                            + "%d increases, %d decreases, %d waits (%d ms), latency %.1f ms (baseline %.1f ms)",
+                    limit, lowestLimit, highestLimit, requests, throttled, serverErrors, failures, slow,
+                    increases, decreases, waits, waitMillis, smoothedMillis, baselineMillis);
+        }
+    }
+
+    /**
+     * One request's slot; report the outcome with {@link #complete(int)}. Closing a permit that
+     * was not completed counts the exchange as failed (the call threw).
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final long started = System.nanoTime();
+        private boolean done;
+
+        private Permit() {
+        }
+
+        public void complete(int status) {
+            if (!done) {
+                done = true;
+                release(System.nanoTime() - started, status);
+            }
+        }
+
+        @Override
+        public void close() {
+            complete(-1);
+        }
+    }
+
+    private final long created = System.nanoTime();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotFreed = lock.newCondition();
+    private final ArrayDeque<Decision> decisions = new ArrayDeque<>();
+
+    private double limit;
+    private int inFlight;
+    private int lowest;
+    private int highest;
+    private long requests;
+    private long throttled;
+    private long serverErrors;
+    private long failures;
+    private long slow;
+    private long increases;
+    private long decreases;
+    private long waits;
+    private long waitNanos;
+    private double baselineNanos;
+    private double smoothedNanos;
+    private long lastDecrease;
+
+    AdaptiveLimit(int initial) {
+        this.limit = Math.min(MAX, Math.max(MIN, initial));
+        this.lowest = (int) limit;
+        this.highest = (int) limit;
+    }
+
+    public static AdaptiveLimit shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Waits until the limit has room for another request.
+     */
+    public Permit acquire() {
+        lock.lock();
+        try {
+            if (ENABLED && inFlight >= (int) limit) {
+                long start = System.nanoTime();
+                waits++;
+                while (inFlight >= (int) limit) {
+                    slotFreed.awaitUninterruptibly();
+                }
+                waitNanos += System.nanoTime() - start;
+            }
+            inFlight++;
+            return new Permit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Metrics metrics() {
+        lock.lock();
+        try {
+            return new Metrics((int) limit, inFlight, lowest, highest, requests, throttled, serverErrors, failures,
+                    slow, increases, decreases, waits, TimeUnit.NANOSECONDS.toMillis(waitNanos),
+                    baselineNanos / 1e6, smoothedNanos / 1e6);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long latencyNanos, int status) {
+        lock.lock();
+        try {
+            int used = inFlight;
+            inFlight--;
+            record(used, latencyNanos, status);
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Applies one finished exchange to the limit; {@code used} is the number of requests that
+     * were in flight, this one included.
+     */
+    void record(int used, long latencyNanos, int status) {
+        lock.lock();
+        try {
+            requests++;
+            smoothedNanos = smoothedNanos == 0 ? latencyNanos : smoothedNanos * 0.8 + latencyNanos * 0.2;
+            // plain mean of the first 100 responses, then a slow moving average
+            baselineNanos += (latencyNanos - baselineNanos) / Math.min(requests, 100);
+            boolean elevated = smoothedNanos > Math.max(baselineNanos * LATENCY_TOLERANCE, LATENCY_FLOOR_NANOS);
+
+            String reason = null;
+            double next = limit;
+            if (status == 429 || status >= 500 || status < 0) {
+                if (status == 429) {
+                    throttled++;
+                } else if (status < 0) {
+                    failures++;
+                } else {
+                    serverErrors++;
+                }
+                if (mayDecrease()) {
+                    next = limit / 2;
+                    reason = status == 429 ? "throttled" : status < 0 ? "failure" : "server-error";
+                }
+            } else if (elevated && used >= (int) limit) {
+                slow++;
+                if (mayDecrease()) {
+                    next = limit * 0.9;
+                    reason = "latency";
+                }
+            } else if (!elevated && used * 2 >= (int) limit) {
+                // only grow a limit that is being used, or an idle phase would inflate it
+                next = limit + 1 / limit;
+            }
+            next = Math.min(MAX, Math.max(MIN, next));
+            int from = (int) limit;
+            int to = (int) next;
+            if (next < limit) {
+                decreases++;
+                lastDecrease = System.nanoTime();
+            } else if (to > from) {
+                increases++;
+                reason = "increase";
+            }
+            limit = next;
+            if (to != from) {
+                decide(reason, from, to, latencyNanos, status);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean mayDecrease() {
+        return ENABLED && (decreases == 0 || System.nanoTime() - lastDecrease > smoothedNanos);
+    }
+
+    private void decide(String reason, int from, int to, long latencyNanos, int status) {
+        lowest = Math.min(lowest, to);
+        highest = Math.max(highest, to);
+        Decision decision = new Decision(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - created), reason, from, to,
+                inFlight, TimeUnit.NANOSECONDS.toMillis(latencyNanos), status);
+        if (decisions.size() == MAX_DECISIONS) {
+            decisions.removeFirst();
+        }
+        decisions.addLast(decision);
+        logger.debug("limit {} -> {} ({}, {} in flight, {} ms, status {})", from, to, reason, inFlight,
+                decision.latencyMillis(), status);
+    }
+
+    private void report() {
+        Metrics metrics = metrics();
+        if (metrics.requests() == 0) {
+            return;
+        }
+        logger.info("adaptive limit: {}", metrics);
+        StringBuilder properties = new StringBuilder();
+        for (var component : Metrics.class.getRecordComponents()) {
+            try {
+                properties.append(component.getName()).append('=').append(component.getAccessor().invoke(metrics))
+                        .append(System.lineSeparator());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        StringBuilder csv = new StringBuilder(Decision.HEADER).append(System.lineSeparator());
+        lock.lock();
+        try {
+            decisions.forEach(decision -> csv.append(decision.csv()).append(System.lineSeparator()));
+        } finally {
+            lock.unlock();
+        }
+        String fork = System.getProperty("serverest.fork", String.valueOf(ProcessHandle.current().pid()));
+        try {
+            Path directory = Path.of(REPORT_DIR);
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve("limit-" + fork + ".properties"), properties, StandardCharsets.UTF_8);
+            Files.writeString(directory.resolve("limit-" + fork + ".csv"), csv, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("could not write the adaptive limit report to {}", REPORT_DIR, e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package common_serverest.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveLimitTest {
+
+    private static long millis(long value) {
+        return TimeUnit.MILLISECONDS.toNanos(value);
+    }
+
+    @Test
+    @DisplayName("Fast responses while the limit is in use raise it")
+    void increasesWhileInUse() {
+        AdaptiveLimit limit = new AdaptiveLimit(4);
+        for (int i = 0; i < 20; i++) {
+            limit.record(limit.limit(), millis(10), 200);
+        }
+
+        assertTrue(limit.limit() > 4, "limit " + limit.limit());
+        assertTrue(limit.metrics().increases() > 0);
+        assertEquals(0, limit.metrics().decreases());
+    }
+
+    @Test
+    @DisplayName("An idle limit neither grows nor is cut for latency")
+    void idleLimitStays() {
+        AdaptiveLimit limit = new AdaptiveLimit(8);
+        for (int i = 0; i < 50; i++) {
+            limit.record(1, millis(20), 200);
+        }
+        for (int i = 0; i < 5; i++) {
+            limit.record(1, millis(400), 200);
+        }
+
+        assertEquals(8, limit.limit());
+        assertEquals(0, limit.metrics().increases());
+        assertEquals(0, limit.metrics().decreases());
+        assertEquals(0, limit.metrics().slow());
+    }
+
+    @Test
+    @DisplayName("Mixing fast and slow endpoints at saturation is not congestion")
+    void endpointMixIsNotSlow() {
+        AdaptiveLimit limit = new AdaptiveLimit(8);
+        for (int i = 0; i < 200; i++) {
+            limit.record(limit.limit(), millis(i % 2 == 0 ? 5 : 120), 200);
+        }
+
+        assertEquals(0, limit.metrics().slow());
+        assertEquals(0, limit.metrics().decreases());
+        assertTrue(limit.limit() > 8, "limit " + limit.limit());
+    }
+
+    @Test
+    @DisplayName("Latency rising at saturation takes 10% off")
+    void latencyGradientAtSaturationDecreases() {
+        AdaptiveLimit limit = new AdaptiveLimit(8);
+        for (int i = 0; i < 50; i++) {
+            limit.record(limit.limit(), millis(20), 200);
+        }
+        int before = limit.limit();
+        limit.record(limit.limit(), millis(400), 200);
+
+        assertEquals(1, limit.metrics().slow());
+        assertEquals(1, limit.metrics().decreases());
+        assertTrue(limit.limit() < before, before + " -> " + limit.limit());
+    }
+
+    @Test
+    @DisplayName("A 429 halves the limit once per round-trip")
+    void throttledHalvesOnce() {
+        AdaptiveLimit limit = new AdaptiveLimit(8);
+        limit.record(1, millis(10), 429);
+        limit.record(1, millis(10), 429);
+
+        assertEquals(4, limit.limit());
+        assertEquals(2, limit.metrics().throttled());
+        assertEquals(1, limit.metrics().decreases());
+    }
+
+    @Test
+    @DisplayName("Server errors and failed exchanges halve the limit")
+    void errorsHalve() {
+        AdaptiveLimit limit = new AdaptiveLimit(8);
+        limit.record(8, millis(10), 503);
+
+        assertEquals(4, limit.limit());
+        assertEquals(1, limit.metrics().serverErrors());
+
+        AdaptiveLimit failed = new AdaptiveLimit(8);
+        failed.record(8, millis(10), -1);
+
+        assertEquals(4, failed.limit());
+        assertEquals(1, failed.metrics().failures());
+    }
+}
@@ -0,0 +1,240 @@
+package common_serverest.http;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import common_serverest.ServeRestEnvironment;
+import common_serverest.auth.TokenProvider;
+import common_serverest.auth.TokenProvider.Role;
+
+/**
+ * Lightweight JSON client on {@code java.net.http}, independent of the RestAssured/Playwright/Karate
+ * stacks, used by the shared fixtures (token cache, fixture pool) and for load runs.
+ *
+ * The client negotiates HTTP/2 over TLS and runs its handlers and the {@code *Async} calls on
+ * virtual threads, so thousands of requests can be in flight at once; a semaphore caps them at
+ * {@code -Dserverest.client.maxInFlight} (default 1024), and below that the JVM-wide
+ * {@link AdaptiveLimit} applies. Cleartext URLs stay on HTTP/1.1 to avoid
+ * the h2c upgrade handshake; {@code -Dserverest.client.http2=true|false} forces either way.
+ *
+ * Bodies may be a {@code byte[]} (e.g. from {@code JsonBody} or {@code JsonTemplate}), a
+ * {@link String} with JSON, or any object Jackson can serialize; tokens go in Authorization.
+ */
+public final class ServeRestClient {
+
+    /**
+     * Status code plus parsed JSON body ({@link MissingNode} when the body is empty).
+     */
+    public record Reply(int status, JsonNode body) {
+
+        public String text(String field) {
+            return body.path(field).asText(null);
+        }
+
+        /**
+         * The reply itself when the status matches, otherwise an {@link IllegalStateException}
+         * naming the action, e.g. {@code client.post("/usuarios", user).expect(201, "create user")}.
+         */
+        public Reply expect(int expected, String action) {
+            if (status != expected) {
+                throw new IllegalStateException("Could not " + action + ": HTTP " + status + " " + body);
+            }
+            return this;
+        }
+    }
+
+    static final int MAX_IN_FLIGHT = Integer.getInteger("serverest.client.maxInFlight", 1024);
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    /** Shared by all clients: each task is a virtual thread, so there is nothing to size. */
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private static final class Holder {
+        private static final ServeRestClient INSTANCE = new ServeRestClient(ServeRestEnvironment.baseUrl());
+    }
+
+    private final String baseUrl;
+    private final HttpClient client;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+
+    public ServeRestClient(String baseUrl) {
+        this(baseUrl, MAX_IN_FLIGHT);
+    }
+
+    public ServeRestClient(String baseUrl, int maxInFlight) {
+        this.baseUrl = baseUrl;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.client = HttpClient.newBuilder()
+                .version(useHttp2(baseUrl) ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .executor(EXECUTOR)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    /**
+     * JVM-wide client pointed at {@link ServeRestEnvironment#baseUrl()}.
+     */
+    public static ServeRestClient shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * The virtual-thread executor behind the async calls, for blocking steps chained with them.
+     */
+    public static Executor executor() {
+        return EXECUTOR;
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Version the client asks for; the server may still answer in HTTP/1.1.
+     */
+    public HttpClient.Version version() {
+        return client.version();
+    }
+
+    /**
+     * Requests currently being sent or awaiting their response.
+     */
+    public int inFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    /**
+     * Cached bearer token for the role (see {@link TokenProvider}), for the {@code token} arguments.
+     */
+    public String token(Role role) {
+        return TokenProvider.shared().token(role);
+    }
+
+    public Reply get(String path) {
+        return send("GET", path, null, null);
+    }
+
+    public Reply get(String path, String token) {
+        return send("GET", path, token, null);
+    }
+
+    public Reply post(String path, Object body) {
+        return send("POST", path, null, body);
+    }
+
+    public Reply post(String path, String token, Object body) {
+        return send("POST", path, token, body);
+    }
+
+    public Reply put(String path, String token, Object body) {
+        return send("PUT", path, token, body);
+    }
+
+    public Reply delete(String path, String token) {
+        return send("DELETE", path, token, null);
+    }
+
+    public CompletableFuture<Reply> getAsync(String path) {
+        return sendAsync("GET", path, null, null);
+    }
+
+    public CompletableFuture<Reply> postAsync(String path, String token, Object body) {
+        return sendAsync("POST", path, token, body);
+    }
+
+    public CompletableFuture<Reply> deleteAsync(String path, String token) {
+        return sendAsync("DELETE", path, token, null);
+    }
+
+    /**
+     * Sends a request and waits for the reply; {@code body} is serialized as described above.
+     */
+    public Reply send(String method, String path, String token, Object body) {
+        HttpRequest request = request(method, path, token, body);
+        try {
+            inFlight.acquire();
+            try (AdaptiveLimit.Permit permit = AdaptiveLimit.shared().acquire()) {
+                HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                permit.complete(response.statusCode());
+                return reply(response);
+            } finally {
+                inFlight.release();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(method + " " + path + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(method + " " + path + " interrupted", e);
+        }
+    }
+
+    /**
+     * Same as {@link #send} on a virtual thread; while {@code maxInFlight} requests are pending
+     * the call waits for a slot there, not on the caller's thread.
+     */
+    public CompletableFuture<Reply> sendAsync(String method, String path, String token, Object body) {
+        return CompletableFuture.supplyAsync(() -> send(method, path, token, body), EXECUTOR);
+    }
+
+    private HttpRequest request(String method, String path, String token, Object body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", token);
+        }
+        if (body != null) {
+            builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(bytes(method, path, body)));
+        } else {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        return builder.build();
+    }
+
+    private static byte[] bytes(String method, String path, Object body) {
+        if (body instanceof byte[] raw) {
+            return raw;
+        }
+        if (body instanceof String json) {
+            return json.getBytes(StandardCharsets.UTF_8);
+        }
+        try {
+            return MAPPER.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(method + " " + path + ": body is not serializable", e);
+        }
+    }
+
+    private static Reply reply(HttpResponse<byte[]> response) throws IOException {
+        byte[] payload = response.body();
+        JsonNode json = payload.length == 0 ? MissingNode.getInstance() : MAPPER.readTree(payload);
+        return new Reply(response.statusCode(), json);
+    }
+
+    private static boolean useHttp2(String baseUrl) {
+        String forced = System.getProperty("serverest.client.http2");
+        if (forced != null && !forced.isBlank()) {
+            return Boolean.parseBoolean(forced);
+        }
+        return baseUrl.startsWith("https:");
+    }
+}
@@ -0,0 +1,215 @@
+package common_serverest.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Fluent JSON object builder that streams through a Jackson {@link JsonGenerator} into a
+ * per-thread pooled byte buffer, for Playwright's {@code RequestOptions.setData(byte[])}.
+ *
+ * No intermediate map or string is built; strings, numbers and booleans are written
+ * without boxing and anything else goes through Jackson's data binding.
+ *
+ * <pre>{@code
+ * byte[] product = JsonBody.object().field("nome", name).field("preco", 250).toBytes();
+ * byte[] cart = JsonBody.object().produto(firstId, 2).produto(secondId, 1).toBytes();
+ * }</pre>
+ *
+ * {@link #toBytes()} hands the pooled buffer back; a builder abandoned before that (e.g. on
+ * an exception) must be closed, or the thread's next bodies fall back to private buffers.
+ */
+public final class JsonBody implements AutoCloseable {
+
+    private static final JsonFactory FACTORY = new ObjectMapper().getFactory();
+    private static final ThreadLocal<Pooled> POOL = ThreadLocal.withInitial(Pooled::new);
+
+    private static final class Pooled {
+        private final ByteArrayBuilder buffer = new ByteArrayBuilder(512);
+        private boolean inUse;
+    }
+
+    private final Pooled pooled;
+    private final ByteArrayBuilder buffer;
+    private final JsonGenerator generator;
+    private boolean produtosOpen;
+    private boolean produtosWritten;
+    private boolean released;
+
+    private JsonBody() {
+        Pooled candidate = POOL.get();
+        if (candidate.inUse) {
+            // another body is being built on this thread: use a private buffer
+            this.pooled = null;
+            this.buffer = new ByteArrayBuilder(512);
+        } else {
+            candidate.inUse = true;
+            this.pooled = candidate;
+            this.buffer = candidate.buffer;
+        }
+        try {
+            this.generator = FACTORY.createGenerator(buffer);
+            generator.writeStartObject();
+        } catch (IOException e) {
+            release();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Starts a JSON object; finish it with {@link #toBytes()}.
+     */
+    public static JsonBody object() {
+        return new JsonBody();
+    }
+
+    /**
+     * Writes a flat object from key/value pairs.
+     */
+    public static byte[] of(Object... keyValues) {
+        if (keyValues.length % 2 != 0) {
+            throw new IllegalArgumentException("keyValues must be pairs");
+        }
+        try (JsonBody body = object()) {
+            for (int i = 0; i < keyValues.length; i += 2) {
+                body.field(String.valueOf(keyValues[i]), keyValues[i + 1]);
+            }
+            return body.toBytes();
+        }
+    }
+
+    public JsonBody field(String name, String value) {
+        try {
+            closeProdutos();
+            generator.writeStringField(name, value);
+            return this;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public JsonBody field(String name, long value) {
+        try {
+            closeProdutos();
+            generator.writeNumberField(name, value);
+            return this;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public JsonBody field(String name, double value) {
+        try {
+            closeProdutos();
+            generator.writeNumberField(name, value);
+            return this;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public JsonBody field(String name, boolean value) {
+        try {
+            closeProdutos();
+            generator.writeBooleanField(name, value);
+            return this;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public JsonBody field(String name, Object value) {
+        try {
+            closeProdutos();
+            generator.writeFieldName(name);
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof String text) {
+                generator.writeString(text);
+            } else if (value instanceof Integer || value instanceof Long || value instanceof Short) {
+                generator.writeNumber(((Number) value).longValue());
+            } else if (value instanceof Double || value instanceof Float) {
+                generator.writeNumber(((Number) value).doubleValue());
+            } else if (value instanceof Boolean flag) {
+                generator.writeBoolean(flag);
+            } else {
+                generator.writeObject(value);
+            }
+            return this;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends {@code {"idProduto": ..., "quantidade": ...}} to the {@code produtos} array,
+     * opening the array on the first call. All calls must come before any later
+     * {@code field(...)}, which closes the array.
+     */
+    public JsonBody produto(String idProduto, int quantidade) {
+        try {
+            if (!produtosOpen) {
+                if (produtosWritten) {
+                    throw new IllegalStateException("produtos is already closed by a field(...) call;"
+                            + " add every produto(...) before the other fields");
+                }
+                generator.writeArrayFieldStart("produtos");
+                produtosOpen = true;
+                produtosWritten = true;
+            }
+            generator.writeStartObject();
+            generator.writeStringField("idProduto", idProduto);
+            generator.writeNumberField("quantidade", quantidade);
+            generator.writeEndObject();
+            return this;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Closes the object and returns its UTF-8 bytes; the builder cannot be used afterwards.
+     */
+    public byte[] toBytes() {
+        try {
+            closeProdutos();
+            generator.writeEndObject();
+            generator.close();
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Hands the buffer back without producing a body; no-op after {@link #toBytes()}.
+     */
+    @Override
+    public void close() {
+        release();
+    }
+
+    private void closeProdutos() throws IOException {
+        if (produtosOpen) {
+            generator.writeEndArray();
+            produtosOpen = false;
+        }
+    }
+
+    private void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+        buffer.reset();
+        if (pooled != null) {
+            pooled.inUse = false;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package common_serverest.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * JSON payload template compiled once and rendered straight to UTF-8 bytes.
+ *
+ * Templates are plain JSON files in which a string value of the form {@code "${name}"} or
+ * {@code "${name:type}"} is a placeholder:
+ * <ul>
+ * <li>{@code string} (default) - rendered as a JSON string, escaped;</li>
+ * <li>{@code int}, {@code number} - rendered bare, the value must be a {@link Number};</li>
+ * <li>{@code bool} - rendered bare, the value must be a {@link Boolean}.</li>
+ * </ul>
+ * Whitespace outside strings is dropped at compile time. Rendering writes the literal
+ * chunks and the escaped values into a per-thread buffer that is reused across calls, so
+ * the only allocation per payload is the final {@code byte[]}, which RestAssured sends as-is.
+ *
+ * <pre>{@code
+ * byte[] body = PRODUCT.render("nome", name, "preco", 250, "descricao", "x", "quantidade", 10);
+ * }</pre>
+ */
+public final class JsonTemplate {
+
+    private enum Type {
+        STRING, INT, NUMBER, BOOL
+    }
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
+
+    private final String source;
+    /** literals[i] precedes placeholder i; the last literal closes the payload. */
+    private final byte[][] literals;
+    private final String[] names;
+    private final Type[] types;
+
+    private JsonTemplate(String source, byte[][] literals, String[] names, Type[] types) {
+        this.source = source;
+        this.literals = literals;
+        this.names = names;
+        this.types = types;
+    }
+
+    public static JsonTemplate compile(String template) {
+        List<byte[]> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<Type> types = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            if (c != '"') {
+                if (!Character.isWhitespace(c)) {
+                    literal.append(c);
+                }
+                i++;
+                continue;
+            }
+            int end = endOfString(template, i);
+            String token = template.substring(i, end + 1);
+            if (token.startsWith("\"${") && token.endsWith("}\"")) {
+                String spec = token.substring(3, token.length() - 2);
+                int colon = spec.indexOf(':');
+                names.add(colon < 0 ? spec : spec.substring(0, colon));
+                types.add(colon < 0 ? Type.STRING : Type.valueOf(spec.substring(colon + 1).toUpperCase(Locale.ROOT)));
+                literals.add(literal.toString().getBytes(StandardCharsets.UTF_8));
+                literal.setLength(0);
+            } else {
+                literal.append(token);
+            }
+            i = end + 1;
+        }
+        literals.add(literal.toString().getBytes(StandardCharsets.UTF_8));
+        return new JsonTemplate(template, literals.toArray(new byte[0][]), names.toArray(new String[0]),
+                types.toArray(new Type[0]));
+    }
+
+    /**
+     * Compiles a template from the test classpath, e.g. {@code restassured_serverest/payloads/product.json}.
+     */
+    public static JsonTemplate fromClasspath(String resource) {
+        try (InputStream is = JsonTemplate.class.getClassLoader().getResourceAsStream(resource)) {
+            if (is == null) {
+                throw new IllegalStateException(resource + " not found in classpath");
+            }
+            return compile(new String(is.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read template " + resource, e);
+        }
+    }
+
+    /**
+     * Renders the payload; arguments are name/value pairs covering every placeholder.
+     * A {@code null} value renders as JSON {@code null}.
+     */
+    public byte[] render(Object... namesAndValues) {
+        if (namesAndValues.length % 2 != 0) {
+            throw new IllegalArgumentException("Expected name/value pairs, got " + namesAndValues.length + " arguments");
+        }
+        Buffer buffer = BUFFER.get();
+        buffer.reset();
+        for (int slot = 0; slot < names.length; slot++) {
+            buffer.write(literals[slot]);
+            writeValue(buffer, slot, valueOf(names[slot], namesAndValues));
+        }
+        buffer.write(literals[names.length]);
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Same as {@link #render(Object...)}, decoded; handy for logs and string-based assertions.
+     */
+    public String renderString(Object... namesAndValues) {
+        return new String(render(namesAndValues), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    private void writeValue(Buffer buffer, int slot, Object value) {
+        if (value == null) {
+            buffer.writeAscii("null");
+            return;
+        }
+        switch (types[slot]) {
+            case STRING -> writeString(buffer, value.toString());
+            case INT -> buffer.writeAscii(Long.toString(expect(Number.class, slot, value).longValue()));
+            case NUMBER -> buffer.writeAscii(expect(Number.class, slot, value).toString());
+            case BOOL -> buffer.writeAscii(expect(Boolean.class, slot, value).toString());
+        }
+    }
+
+    private <T> T expect(Class<T> type, int slot, Object value) {
+        if (!type.isInstance(value)) {
+            throw new IllegalArgumentException("Placeholder ${" + names[slot] + "} expects " + type.getSimpleName()
+                    + " but got " + value.getClass().getSimpleName());
+        }
+        return type.cast(value);
+    }
+
+    private static Object valueOf(String name, Object[] namesAndValues) {
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            if (name.equals(namesAndValues[i])) {
+                return namesAndValues[i + 1];
+            }
+        }
+        throw new IllegalArgumentException("No value for placeholder ${" + name + "}");
+    }
+
+    private static int endOfString(String template, int start) {
+        for (int i = start + 1; i < template.length(); i++) {
+            char c = template.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"') {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unterminated string in template: " + template);
+    }
+
+    /**
+     * Writes {@code value} as a quoted JSON string, UTF-8 encoded, escaping quotes,
+     * backslashes and control characters.
+     */
+    private static void writeString(Buffer buffer, String value) {
+        buffer.writeByte('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                buffer.writeByte('\\');
+                buffer.writeByte(c);
+            } else if (c < 0x20) {
+                switch (c) {
+                    case '\n' -> buffer.writeAscii("\\n");
+                    case '\r' -> buffer.writeAscii("\\r");
+                    case '\t' -> buffer.writeAscii("\\t");
+                    default -> {
+                        buffer.writeAscii("\\u00");
+                        buffer.writeByte(HEX[c >> 4]);
+                        buffer.writeByte(HEX[c & 0xF]);
+                    }
+                }
+            } else if (c < 0x80) {
+                buffer.writeByte(c);
+            } else if (c < 0x800) {
+                buffer.writeByte(0xC0 | (c >> 6));
+                buffer.writeByte(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.writeByte(0xF0 | (codePoint >> 18));
+                buffer.writeByte(0x80 | ((codePoint >> 12) & 0x3F));
+                buffer.writeByte(0x80 | ((codePoint >> 6) & 0x3F));
+                buffer.writeByte(0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer.writeAscii("\\u");
+                buffer.writeByte(HEX[c >> 12]);
+                buffer.writeByte(HEX[(c >> 8) & 0xF]);
+                buffer.writeByte(HEX[(c >> 4) & 0xF]);
+                buffer.writeByte(HEX[c & 0xF]);
+            } else {
+                buffer.writeByte(0xE0 | (c >> 12));
+                buffer.writeByte(0x80 | ((c >> 6) & 0x3F));
+                buffer.writeByte(0x80 | (c & 0x3F));
+            }
+        }
+        buffer.writeByte('"');
+    }
+
+    /**
+     * Growable byte buffer reused by one thread.
+     */
+    private static final class Buffer {
+        private byte[] bytes = new byte[512];
+        private int size;
+
+        void reset() {
+            size = 0;
+        }
+
+        void writeByte(int b) {
+            ensure(1);
+            bytes[size++] = (byte) b;
+        }
+
+        void write(byte[] chunk) {
+            ensure(chunk.length);
+            System.arraycopy(chunk, 0, bytes, size, chunk.length);
+            size += chunk.length;
+        }
+
+        void writeAscii(String text) {
+            ensure(text.length());
+            for (int i = 0; i < text.length(); i++) {
+                bytes[size++] = (byte) text.charAt(i);
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package common_serverest.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * A response body parsed once into a Jackson tree, queried with the GPath subset the
+ * RestAssured tests use, without Groovy:
+ * <ul>
+ * <li>{@code _id}, {@code usuarios[0]._id}, {@code usuarios[-1]} - fields and indexes;</li>
+ * <li>{@code produtos.nome} - a field of every element of an array, as a list;</li>
+ * <li>{@code produtos.size()} - size of an array, object or string;</li>
+ * <li>{@code usuarios.findAll { it.administrador == 'true' }} - elements whose field equals
+ * (or, with {@code !=}, differs from) a string, number, boolean or {@code null} literal.</li>
+ * </ul>
+ * Expressions are compiled once per JVM and cached. Values come back as {@code String},
+ * {@code Integer}/{@code Long}, {@code Double}, {@code Boolean}, {@code Map} or {@code List}.
+ */
+public final class JsonView {
+
+    private static final ObjectReader READER = new ObjectMapper().reader();
+    private static final Map<String, List<Step>> COMPILED = new ConcurrentHashMap<>();
+
+    private final JsonNode root;
+
+    private JsonView(JsonNode root) {
+        this.root = root;
+    }
+
+    public static JsonView parse(byte[] body) {
+        try {
+            return new JsonView(READER.readTree(body));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Response is not JSON: " + new String(body, StandardCharsets.UTF_8), e);
+        }
+    }
+
+    public JsonNode root() {
+        return root;
+    }
+
+    /**
+     * Evaluates {@code expression}; missing fields and out-of-range indexes yield {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T path(String expression) {
+        Object current = root;
+        for (Step step : COMPILED.computeIfAbsent(expression, JsonView::compile)) {
+            current = step.apply(current);
+            if (current == null) {
+                return null;
+            }
+        }
+        return (T) toJava(current);
+    }
+
+    /**
+     * One step of an expression; the current value is a {@link JsonNode} or, after a
+     * projection over an array, a {@code List<JsonNode>}.
+     */
+    private interface Step {
+        Object apply(Object current);
+    }
+
+    private record Field(String name) implements Step {
+        @Override
+        public Object apply(Object current) {
+            if (current instanceof List<?> projection) {
+                List<JsonNode> values = new ArrayList<>(projection.size());
+                for (Object node : projection) {
+                    values.add(node == null ? null : ((JsonNode) node).get(name));
+                }
+                return values;
+            }
+            JsonNode node = (JsonNode) current;
+            if (node.isArray()) {
+                return apply(elements(node));
+            }
+            return node.get(name);
+        }
+    }
+
+    private record Index(int index) implements Step {
+        @Override
+        public Object apply(Object current) {
+            List<JsonNode> items = current instanceof List<?> ? cast(current) : elements((JsonNode) current);
+            int position = index < 0 ? items.size() + index : index;
+            return position >= 0 && position < items.size() ? items.get(position) : null;
+        }
+    }
+
+    private record Size() implements Step {
+        @Override
+        public Object apply(Object current) {
+            if (current instanceof List<?> projection) {
+                return projection.size();
+            }
+            JsonNode node = (JsonNode) current;
+            return node.isTextual() ? node.asText().length() : node.size();
+        }
+    }
+
+    private record FindAll(String field, boolean equal, JsonNode literal) implements Step {
+        @Override
+        public Object apply(Object current) {
+            List<JsonNode> items = current instanceof List<?> ? cast(current) : elements((JsonNode) current);
+            List<JsonNode> matches = new ArrayList<>();
+            for (JsonNode item : items) {
+                JsonNode value = item == null ? null : item.get(field);
+                boolean same = value == null ? literal.isNull() : sameValue(value, literal);
+                if (same == equal) {
+                    matches.add(item);
+                }
+            }
+            return matches;
+        }
+
+        private static boolean sameValue(JsonNode value, JsonNode literal) {
+            if (value.isNumber() && literal.isNumber()) {
+                return value.decimalValue().compareTo(literal.decimalValue()) == 0;
+            }
+            return value.equals(literal);
+        }
+    }
+
+    private static List<Step> compile(String expression) {
+        List<Step> steps = new ArrayList<>();
+        int i = 0;
+        int length = expression.length();
+        while (i < length) {
+            char c = expression.charAt(i);
+            if (c == '.' || Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '[') {
+                int close = expression.indexOf(']', i);
+                if (close < 0) {
+                    throw invalid(expression, "unclosed [");
+                }
+                steps.add(new Index(Integer.parseInt(expression.substring(i + 1, close).trim())));
+                i = close + 1;
+            } else if (expression.startsWith("findAll", i)) {
+                int open = expression.indexOf('{', i);
+                int close = expression.indexOf('}', open);
+                if (open < 0 || close < 0) {
+                    throw invalid(expression, "findAll needs { it.field == value }");
+                }
+                steps.add(findAll(expression, expression.substring(open + 1, close).trim()));
+                i = close + 1;
+            } else if (expression.startsWith("size()", i)) {
+                steps.add(new Size());
+                i += "size()".length();
+            } else {
+                int end = i;
+                while (end < length && expression.charAt(end) != '.' && expression.charAt(end) != '[') {
+                    end++;
+                }
+                steps.add(new Field(expression.substring(i, end).trim()));
+                i = end;
+            }
+        }
+        return List.copyOf(steps);
+    }
+
+    private static FindAll findAll(String expression, String condition) {
+        boolean equal = condition.contains("==");
+        String[] sides = condition.split(equal ? "==" : "!=", 2);
+        if (sides.length != 2 || !sides[0].trim().startsWith("it.")) {
+            throw invalid(expression, "findAll needs { it.field == value }");
+        }
+        String field = sides[0].trim().substring("it.".length());
+        String literal = sides[1].trim();
+        if (literal.startsWith("'") && literal.endsWith("'") && literal.length() >= 2) {
+            literal = '"' + literal.substring(1, literal.length() - 1).replace("\"", "\\\"") + '"';
+        }
+        try {
+            return new FindAll(field, equal, READER.readTree(literal));
+        } catch (IOException e) {
+            throw invalid(expression, "unsupported literal " + sides[1].trim());
+        }
+    }
+
+    private static IllegalArgumentException invalid(String expression, String reason) {
+        return new IllegalArgumentException("Invalid path '" + expression + "': " + reason);
+    }
+
+    private static List<JsonNode> elements(JsonNode node) {
+        List<JsonNode> items = new ArrayList<>(node.size());
+        if (node.isArray()) {
+            node.forEach(items::add);
+        }
+        return items;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<JsonNode> cast(Object projection) {
+        return (List<JsonNode>) projection;
+    }
+
+    private static Object toJava(Object value) {
+        if (value instanceof List<?> projection) {
+            List<Object> values = new ArrayList<>(projection.size());
+            for (Object node : projection) {
+                values.add(toJava(node));
+            }
+            return values;
+        }
+        if (value instanceof Integer size) {
+            return size;
+        }
+        JsonNode node = (JsonNode) value;
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            return null;
+        }
+        if (node.isTextual()) {
+            return node.textValue();
+        }
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        if (node.isIntegralNumber()) {
+            return node.canConvertToInt() ? (Object) node.intValue() : (Object) node.longValue();
+        }
+        if (node.isNumber()) {
+            return node.doubleValue();
+        }
+        if (node.isArray()) {
+            List<Object> items = new ArrayList<>(node.size());
+            node.forEach(item -> items.add(toJava(item)));
+            return items;
+        }
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonNode> entry : node.properties()) {
+            fields.put(entry.getKey(), toJava(entry.getValue()));
+        }
+        return fields;
+    }
+}
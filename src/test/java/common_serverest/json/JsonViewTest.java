@@ -0,0 +1,87 @@
+package common_serverest.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JsonViewTest {
+
+    private static final JsonView VIEW = JsonView.parse(("""
+            {
+              "quantidade": 3,
+              "usuarios": [
+                { "nome": "Ana", "administrador": "true", "_id": "a1", "saldo": 10 },
+                { "nome": "Bia", "administrador": "false", "_id": "b2", "saldo": 10.0, "apelido": null },
+                { "nome": "Caio", "administrador": "true", "_id": "c3", "saldo": 3000000000, "ativo": false }
+              ]
+            }
+            """).getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    @DisplayName("Fields and indexes, negative ones counting from the end")
+    void fieldsAndIndexes() {
+        assertEquals(3, (Integer) VIEW.path("quantidade"));
+        assertEquals("a1", VIEW.path("usuarios[0]._id"));
+        assertEquals("Caio", VIEW.path("usuarios[-1].nome"));
+        assertEquals("Bia", VIEW.path("usuarios[-2].nome"));
+        assertNull(VIEW.path("usuarios[3]"));
+        assertNull(VIEW.path("usuarios[-4]"));
+        assertNull(VIEW.path("message"));
+    }
+
+    @Test
+    @DisplayName("A field of an array is projected over its elements")
+    void projection() {
+        assertEquals(List.of("Ana", "Bia", "Caio"), VIEW.path("usuarios.nome"));
+        assertEquals(Arrays.asList(null, null, false), VIEW.path("usuarios.ativo"));
+        assertEquals(3, (Integer) VIEW.path("usuarios.size()"));
+        assertEquals(3, (Integer) VIEW.path("usuarios.nome.size()"));
+        assertEquals(4, (Integer) VIEW.path("usuarios[2].nome.size()"));
+    }
+
+    @Test
+    @DisplayName("Values come back as Java types")
+    void javaTypes() {
+        assertEquals(10, (Integer) VIEW.path("usuarios[0].saldo"));
+        assertEquals(10.0, (Double) VIEW.path("usuarios[1].saldo"));
+        assertEquals(3_000_000_000L, (Long) VIEW.path("usuarios[2].saldo"));
+        Map<String, Object> first = VIEW.path("usuarios[0]");
+        assertEquals(List.of("nome", "administrador", "_id", "saldo"), List.copyOf(first.keySet()));
+    }
+
+    @Test
+    @DisplayName("findAll with == and != on string, number and boolean literals")
+    void findAllComparisons() {
+        assertEquals(List.of("Ana", "Caio"), VIEW.path("usuarios.findAll { it.administrador == 'true' }.nome"));
+        assertEquals(List.of("Bia"), VIEW.path("usuarios.findAll { it.administrador != 'true' }.nome"));
+        assertEquals(List.of("Ana", "Bia"), VIEW.path("usuarios.findAll { it.saldo == 10 }.nome"));
+        assertEquals(List.of("Caio"), VIEW.path("usuarios.findAll { it.saldo != 10.0 }.nome"));
+        assertEquals(List.of("Caio"), VIEW.path("usuarios.findAll { it.ativo == false }.nome"));
+        assertEquals(1, (Integer) VIEW.path("usuarios.findAll { it.administrador == 'false' }.size()"));
+    }
+
+    @Test
+    @DisplayName("findAll with null matches missing and null fields")
+    void findAllNull() {
+        assertEquals(List.of("Ana", "Bia", "Caio"), VIEW.path("usuarios.findAll { it.apelido == null }.nome"));
+        assertEquals(List.of("Ana", "Bia"), VIEW.path("usuarios.findAll { it.ativo == null }.nome"));
+        assertEquals(List.of("Caio"), VIEW.path("usuarios.findAll { it.ativo != null }.nome"));
+        assertEquals(List.of(), VIEW.path("usuarios.findAll { it.nome == null }"));
+    }
+
+    @Test
+    @DisplayName("Unsupported expressions are rejected")
+    void invalidExpressions() {
+        assertThrows(IllegalArgumentException.class, () -> VIEW.path("usuarios[0"));
+        assertThrows(IllegalArgumentException.class, () -> VIEW.path("usuarios.findAll { nome == 'Ana' }"));
+        assertThrows(IllegalArgumentException.class, () -> VIEW.path("usuarios.findAll { it.nome == Ana }"));
+    }
+}
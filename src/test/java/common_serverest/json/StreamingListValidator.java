@@ -0,0 +1,350 @@
+package common_serverest.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import common_serverest.assertions.FieldFormat;
+import common_serverest.assertions.FieldFormats;
+
+/**
+ * Checks the shape of every element of a list response ({@code GET /usuarios},
+ * {@code GET /produtos}) while streaming it with a Jackson {@link JsonParser}.
+ *
+ * Only the current token is held in memory, so the cost stays flat however large the
+ * public server's lists grow. Each element must be an object carrying every declared field
+ * with the declared type and passing its {@link FieldFormat}; other top-level fields and nested values
+ * of undeclared fields are skipped. The first {@link #MAX_REPORTED} violations are kept
+ * with their element index, the rest are only counted.
+ *
+ * Instances are immutable and thread-safe. From Karate:
+ * <pre>
+ * * def StreamingListValidator = Java.type('common_serverest.json.StreamingListValidator')
+ * * def check = StreamingListValidator.users().validate(responseBytes).toMap()
+ * And match check.violations == []
+ * </pre>
+ */
+public final class StreamingListValidator {
+
+    public static final int MAX_REPORTED = 20;
+
+    private static final JsonFactory FACTORY = new ObjectMapper().getFactory();
+    private static final int MAX_FIELDS = 64;
+
+    private static final StreamingListValidator USERS = list("usuarios")
+            .string("nome")
+            .string("email", FieldFormats.EMAIL)
+            .string("password")
+            .string("administrador", FieldFormats.ADMIN_FLAG)
+            .string("_id")
+            .strict();
+
+    private static final StreamingListValidator PRODUCTS = list("produtos")
+            .string("nome")
+            .number("preco", FieldFormats.POSITIVE_PRICE)
+            .string("descricao")
+            .number("quantidade", FieldFormats.STOCK)
+            .string("_id")
+            .strict();
+
+    private enum Kind {
+        STRING, NUMBER
+    }
+
+    private record Rule(String field, Kind kind, FieldFormat format) {
+
+        String expectation() {
+            if (format != null) {
+                return format.toString();
+            }
+            return kind == Kind.STRING ? "string" : "number";
+        }
+    }
+
+    private final String arrayField;
+    private final List<Rule> rules;
+    private final Map<String, Integer> index;
+    private final boolean strict;
+
+    private StreamingListValidator(String arrayField, List<Rule> rules, boolean strict) {
+        if (rules.size() > MAX_FIELDS) {
+            throw new IllegalArgumentException("At most " + MAX_FIELDS + " fields can be declared");
+        }
+        this.arrayField = arrayField;
+        this.rules = List.copyOf(rules);
+        this.strict = strict;
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < rules.size(); i++) {
+            positions.put(rules.get(i).field(), i);
+        }
+        this.index = positions;
+    }
+
+    /**
+     * Starts a validator for the array stored under {@code arrayField} of the response object.
+     */
+    public static StreamingListValidator list(String arrayField) {
+        return new StreamingListValidator(arrayField, List.of(), false);
+    }
+
+    /**
+     * {@code usuarios}: nome, email, password, administrador ("true"/"false") and _id, nothing else.
+     */
+    public static StreamingListValidator users() {
+        return USERS;
+    }
+
+    /**
+     * {@code produtos}: nome, preco (> 0), descricao, quantidade (>= 0) and _id, nothing else.
+     */
+    public static StreamingListValidator products() {
+        return PRODUCTS;
+    }
+
+    public StreamingListValidator string(String field) {
+        return with(new Rule(field, Kind.STRING, null));
+    }
+
+    /**
+     * Requires a string accepted by {@code format}.
+     */
+    public StreamingListValidator string(String field, FieldFormat format) {
+        return with(new Rule(field, Kind.STRING, format));
+    }
+
+    /**
+     * Requires a string that fully matches {@code regex} (see {@link FieldFormats#regex(String)}).
+     */
+    public StreamingListValidator string(String field, String regex) {
+        return string(field, FieldFormats.regex(regex));
+    }
+
+    public StreamingListValidator number(String field) {
+        return with(new Rule(field, Kind.NUMBER, null));
+    }
+
+    /**
+     * Requires a number accepted by {@code format}.
+     */
+    public StreamingListValidator number(String field, FieldFormat format) {
+        return with(new Rule(field, Kind.NUMBER, format));
+    }
+
+    /**
+     * Also reports fields that were not declared, like Karate's {@code match each ==}.
+     */
+    public StreamingListValidator strict() {
+        return new StreamingListValidator(arrayField, rules, true);
+    }
+
+    public Result validate(byte[] body) {
+        try (JsonParser parser = FACTORY.createParser(body)) {
+            return validate(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not parse " + arrayField + " list", e);
+        }
+    }
+
+    public Result validate(InputStream body) {
+        try (JsonParser parser = FACTORY.createParser(body)) {
+            return validate(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not parse " + arrayField + " list", e);
+        }
+    }
+
+    private StreamingListValidator with(Rule rule) {
+        if (index.containsKey(rule.field())) {
+            throw new IllegalArgumentException("Field " + rule.field() + " is already declared");
+        }
+        List<Rule> extended = new ArrayList<>(rules);
+        extended.add(rule);
+        return new StreamingListValidator(arrayField, extended, strict);
+    }
+
+    private Result validate(JsonParser parser) throws IOException {
+        Result result = new Result(arrayField);
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            result.violation(-1, "response is not a JSON object");
+            return result;
+        }
+        boolean found = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (!arrayField.equals(name)) {
+                parser.skipChildren();
+            } else if (value != JsonToken.START_ARRAY) {
+                result.violation(-1, arrayField + " is not an array");
+                parser.skipChildren();
+                found = true;
+            } else {
+                validateElements(parser, result);
+                found = true;
+            }
+        }
+        if (!found) {
+            result.violation(-1, arrayField + " is missing");
+        }
+        return result;
+    }
+
+    private void validateElements(JsonParser parser, Result result) throws IOException {
+        long required = rules.size() == MAX_FIELDS ? -1L : (1L << rules.size()) - 1;
+        int element = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                result.violation(element, " is not an object");
+                parser.skipChildren();
+            } else {
+                long seen = validateElement(parser, element, result);
+                long missing = required & ~seen;
+                while (missing != 0) {
+                    Rule rule = rules.get(Long.numberOfTrailingZeros(missing));
+                    result.violation(element, "." + rule.field() + " is missing");
+                    missing &= missing - 1;
+                }
+            }
+            element++;
+        }
+        result.count = element;
+    }
+
+    private long validateElement(JsonParser parser, int element, Result result) throws IOException {
+        long seen = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            Integer position = index.get(name);
+            if (position == null) {
+                if (strict) {
+                    result.violation(element, "." + name + " is not expected");
+                }
+                parser.skipChildren();
+                continue;
+            }
+            seen |= 1L << position;
+            Rule rule = rules.get(position);
+            if (!accepts(rule, value, parser)) {
+                result.violation(element, "." + rule.field() + ": expected " + rule.expectation() + " but was "
+                        + describe(value, parser));
+                parser.skipChildren();
+            }
+        }
+        return seen;
+    }
+
+    private static boolean accepts(Rule rule, JsonToken value, JsonParser parser) throws IOException {
+        if (rule.kind() == Kind.STRING) {
+            return value == JsonToken.VALUE_STRING && (rule.format() == null || rule.format().test(parser.getText()));
+        }
+        return value.isNumeric() && (rule.format() == null || rule.format().test(parser.getNumberValue()));
+    }
+
+    private static String describe(JsonToken value, JsonParser parser) throws IOException {
+        if (value == JsonToken.START_OBJECT) {
+            return "an object";
+        }
+        if (value == JsonToken.START_ARRAY) {
+            return "an array";
+        }
+        String text = parser.getText();
+        if (text.length() > 60) {
+            text = text.substring(0, 60) + "...";
+        }
+        return value == JsonToken.VALUE_STRING ? '"' + text + '"' : text;
+    }
+
+    /**
+     * Outcome of one validation: element count, violation count and the first
+     * {@link #MAX_REPORTED} violations.
+     */
+    public static final class Result {
+
+        private final String arrayField;
+        private final List<String> violations = new ArrayList<>();
+        private int count;
+        private int violationCount;
+
+        private Result(String arrayField) {
+            this.arrayField = arrayField;
+        }
+
+        private void violation(int element, String message) {
+            violationCount++;
+            if (violations.size() < MAX_REPORTED) {
+                violations.add(element < 0 ? message : arrayField + "[" + element + "]" + message);
+            }
+        }
+
+        /**
+         * Number of elements in the array.
+         */
+        public int count() {
+            return count;
+        }
+
+        public int violationCount() {
+            return violationCount;
+        }
+
+        public List<String> violations() {
+            return Collections.unmodifiableList(violations);
+        }
+
+        public boolean valid() {
+            return violationCount == 0;
+        }
+
+        /**
+         * Throws an {@link AssertionError} listing the reported violations unless the list is valid.
+         */
+        public Result assertValid() {
+            if (!valid()) {
+                throw new AssertionError(this);
+            }
+            return this;
+        }
+
+        /**
+         * {@code count}, {@code valid}, {@code violationCount} and {@code violations}, for Karate {@code match}.
+         */
+        public Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", count);
+            map.put("valid", valid());
+            map.put("violationCount", violationCount);
+            map.put("violations", violations());
+            return map;
+        }
+
+        @Override
+        public String toString() {
+            if (valid()) {
+                return arrayField + ": " + count + " elements, valid";
+            }
+            StringBuilder text = new StringBuilder(arrayField).append(": ").append(violationCount)
+                    .append(" violation(s) in ").append(count).append(" elements");
+            for (String violation : violations) {
+                text.append(System.lineSeparator()).append("  ").append(violation);
+            }
+            if (violationCount > violations.size()) {
+                text.append(System.lineSeparator()).append("  ... ")
+                        .append(violationCount - violations.size()).append(" more");
+            }
+            return text.toString();
+        }
+    }
+}
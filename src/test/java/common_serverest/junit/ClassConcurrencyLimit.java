@@ -0,0 +1,79 @@
+package common_serverest.junit;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+/**
+ * Caps how many test methods of one class run at once, on top of the global cap of
+ * {@link NetworkBoundParallelism}. The cap comes from the configuration parameter
+ * {@code serverest.concurrency.<SimpleClassName>}, e.g. on a suite:
+ *
+ * <pre>{@code
+ * @ConfigurationParameter(key = "serverest.concurrency.CartsRestAssuredTest", value = "2")
+ * }</pre>
+ *
+ * Classes without a cap are not limited. The semaphores live in the root context's store, so each
+ * suite (each engine execution, with its own configuration parameters) gets its own. Waiting for a slot goes through
+ * {@link ForkJoinPool#managedBlock}, so JUnit's pool starts another worker for tests of other
+ * classes instead of losing one to the wait.
+ */
+public class ClassConcurrencyLimit implements InvocationInterceptor {
+
+    public static final String KEY_PREFIX = "serverest.concurrency.";
+
+    private static final Semaphore UNLIMITED = new Semaphore(Integer.MAX_VALUE);
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(ClassConcurrencyLimit.class);
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+            ExtensionContext extensionContext) throws Throwable {
+        Class<?> testClass = extensionContext.getRequiredTestClass();
+        Semaphore slots = extensionContext.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(testClass,
+                type -> extensionContext.getConfigurationParameter(KEY_PREFIX + type.getSimpleName())
+                        .map(value -> new Semaphore(Integer.parseInt(value.trim()), true))
+                        .orElse(UNLIMITED),
+                Semaphore.class);
+        if (slots == UNLIMITED) {
+            invocation.proceed();
+            return;
+        }
+        ForkJoinPool.managedBlock(new Slot(slots));
+        try {
+            invocation.proceed();
+        } finally {
+            slots.release();
+        }
+    }
+
+    /**
+     * Takes a permit without blocking when one is free; only a real wait is compensated.
+     */
+    private static final class Slot implements ForkJoinPool.ManagedBlocker {
+
+        private final Semaphore slots;
+        private boolean acquired;
+
+        Slot(Semaphore slots) {
+            this.slots = slots;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return acquired || (acquired = slots.tryAcquire());
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            if (!acquired) {
+                slots.acquire();
+                acquired = true;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package common_serverest.junit;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import common_serverest.ServeRestEnvironment;
+
+/**
+ * JUnit parallel strategy for the I/O-bound API suites: the pool is sized by how many requests
+ * ServeRest should see at once, not by the CPU count as the fixed/dynamic strategies do.
+ *
+ * <pre>
+ * junit.jupiter.execution.parallel.config.strategy=custom
+ * junit.jupiter.execution.parallel.config.custom.class=common_serverest.junit.NetworkBoundParallelism
+ * junit.jupiter.execution.parallel.config.network.parallelism=32
+ * </pre>
+ *
+ * The last key is the global cap on concurrent tests, set once in {@code junit-platform.properties}
+ * (or as a system property) and overridden by {@code -Dserverest.parallelism}. The HTTP pools and
+ * the adaptive limit are sized from the same value by {@link ServeRestEnvironment#parallelism()}
+ * before JUnit asks for this configuration. A suite may narrow the cap with its own
+ * {@code @ConfigurationParameter}; a suite cap above the pools' size is logged, since those tests
+ * would queue for connections. Workers blocked in {@link ClassConcurrencyLimit} are compensated up
+ * to {@code network.maxPoolSize} (default cap + 256) without counting against it.
+ */
+public class NetworkBoundParallelism implements ParallelExecutionConfigurationStrategy {
+
+    private static final Logger logger = LoggerFactory.getLogger(NetworkBoundParallelism.class);
+
+    @Override
+    public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters parameters) {
+        Integer configured = Integer.getInteger(ServeRestEnvironment.PARALLELISM_PROPERTY);
+        int parallelism = configured != null && configured > 0 ? configured
+                : parameters.get("network.parallelism", Integer::parseInt).orElseGet(ServeRestEnvironment::networkParallelism);
+        int maxPoolSize = parameters.get("network.maxPoolSize", Integer::parseInt).orElse(parallelism + 256);
+        int pools = ServeRestEnvironment.parallelism();
+        if (parallelism > pools) {
+            logger.warn("network.parallelism={} is above the {} threads the HTTP and Playwright pools are sized for; "
+                    + "set {} in junit-platform.properties to match", parallelism, pools,
+                    ServeRestEnvironment.NETWORK_PARALLELISM_KEY);
+        }
+        return new Configuration(parallelism, Math.max(parallelism, maxPoolSize));
+    }
+
+    private record Configuration(int parallelism, int maxPoolSize) implements ParallelExecutionConfiguration {
+
+        @Override
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public int getMinimumRunnable() {
+            return parallelism;
+        }
+
+        @Override
+        public int getMaxPoolSize() {
+            return maxPoolSize;
+        }
+
+        @Override
+        public int getCorePoolSize() {
+            return parallelism;
+        }
+
+        @Override
+        public int getKeepAliveSeconds() {
+            return 30;
+        }
+
+        @Override
+        public Predicate<? super ForkJoinPool> getSaturatePredicate() {
+            // at maxPoolSize keep going with the workers there are instead of failing the run
+            return pool -> true;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package common_serverest.model;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * {@code GET /carrinhos/{id}} and the items of {@link CartList}.
+ */
+public record Cart(List<Item> produtos, Integer precoTotal, Integer quantidadeTotal, String idUsuario,
+        @JsonProperty("_id") String id) {
+
+    public record Item(String idProduto, Integer quantidade, Integer precoUnitario) {
+    }
+}
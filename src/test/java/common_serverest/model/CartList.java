@@ -0,0 +1,9 @@
+package common_serverest.model;
+
+import java.util.List;
+
+/**
+ * {@code GET /carrinhos}.
+ */
+public record CartList(int quantidade, List<Cart> carrinhos) {
+}
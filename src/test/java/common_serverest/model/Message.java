@@ -0,0 +1,10 @@
+package common_serverest.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Envelope of writes, login and errors: the message plus whichever of the created id,
+ * the bearer token ({@code POST /login}) or the blocking cart id came back.
+ */
+public record Message(String message, @JsonProperty("_id") String id, String authorization, String idCarrinho) {
+}
@@ -0,0 +1,10 @@
+package common_serverest.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * {@code GET /produtos/{id}} and the items of {@link ProductList}.
+ */
+public record Product(String nome, Integer preco, String descricao, Integer quantidade,
+        @JsonProperty("_id") String id) {
+}
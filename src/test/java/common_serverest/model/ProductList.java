@@ -0,0 +1,9 @@
+package common_serverest.model;
+
+import java.util.List;
+
+/**
+ * {@code GET /produtos}.
+ */
+public record ProductList(int quantidade, List<Product> produtos) {
+}
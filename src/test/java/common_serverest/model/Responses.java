@@ -0,0 +1,52 @@
+package common_serverest.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Decodes ServeRest response bodies into the typed records of this package.
+ *
+ * One {@link ObjectReader} per type is created on first use and cached; readers for the
+ * ServeRest records are built up front, so their deserializers are resolved before the
+ * first test runs. Unknown fields are ignored.
+ */
+public final class Responses {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final ClassValue<ObjectReader> READERS = new ClassValue<>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+            return MAPPER.readerFor(type);
+        }
+    };
+
+    static {
+        for (Class<?> type : new Class<?>[] { User.class, Product.class, Cart.class, UserList.class,
+                ProductList.class, CartList.class, Message.class }) {
+            READERS.get(type);
+        }
+    }
+
+    private Responses() {
+    }
+
+    public static ObjectReader reader(Class<?> type) {
+        return READERS.get(type);
+    }
+
+    public static <T> T read(byte[] body, Class<T> type) {
+        try {
+            return READERS.get(type).readValue(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not decode " + type.getSimpleName() + " from: "
+                    + new String(body, StandardCharsets.UTF_8), e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package common_serverest.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * {@code GET /usuarios/{id}} and the items of {@link UserList}.
+ */
+public record User(String nome, String email, String password, String administrador,
+        @JsonProperty("_id") String id) {
+}
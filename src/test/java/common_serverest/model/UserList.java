@@ -0,0 +1,9 @@
+package common_serverest.model;
+
+import java.util.List;
+
+/**
+ * {@code GET /usuarios}.
+ */
+public record UserList(int quantidade, List<User> usuarios) {
+}
@@ -0,0 +1,79 @@
+package common_serverest.server;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embedded ServeRest stand-in, started lazily once per JVM and stopped by a shutdown hook.
+ *
+ * Implements /login, /usuarios, /produtos and /carrinhos (including concluir-compra and
+ * cancelar-compra stock semantics) on top of an in-memory {@link ServeRestStore}.
+ * Requests are served on a growing pool of platform threads, so every test thread can keep
+ * calls in flight. Not on virtual threads: Karate's {@code callSingle} makes its login call
+ * inside a {@code synchronized} block, and the scenarios pinned to their carriers while they wait
+ * for it would leave no carrier to run the handler that answers that call.
+ *
+ * The port is ephemeral unless {@code -Dserverest.local.port} is set.
+ * Normally reached through {@code common_serverest.ServeRestEnvironment} with {@code -Dkarate.env=local}.
+ */
+public final class LocalServeRest {
+
+    public static final String PORT_PROPERTY = "serverest.local.port";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ServeRestStore store;
+
+    private LocalServeRest(HttpServer server, ExecutorService executor, ServeRestStore store) {
+        this.server = server;
+        this.executor = executor;
+        this.store = store;
+    }
+
+    private static final class Holder {
+        private static final LocalServeRest INSTANCE = start();
+    }
+
+    public static LocalServeRest instance() {
+        return Holder.INSTANCE;
+    }
+
+    public String baseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    public ServeRestStore store() {
+        return store;
+    }
+
+    private static LocalServeRest start() {
+        int port = Integer.getInteger(PORT_PROPERTY, 0);
+        ServeRestStore store = new ServeRestStore();
+        ExecutorService executor = Executors.newCachedThreadPool(
+                Thread.ofPlatform().name("serverest-local-", 0).daemon().factory());
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+            server.createContext("/", new ServeRestHandler(store));
+            server.setExecutor(executor);
+            server.start();
+            LocalServeRest instance = new LocalServeRest(server, executor, store);
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::stop, "serverest-local-shutdown"));
+            return instance;
+        } catch (IOException e) {
+            executor.shutdownNow();
+            throw new UncheckedIOException("Failed to start local ServeRest on port " + port, e);
+        }
+    }
+
+    private void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
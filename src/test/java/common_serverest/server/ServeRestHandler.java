@@ -0,0 +1,161 @@
+package common_serverest.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import common_serverest.server.ServeRestStore.Reply;
+
+/**
+ * Routes ServeRest HTTP calls to the {@link ServeRestStore}.
+ */
+final class ServeRestHandler implements HttpHandler {
+
+    private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+
+    private final ServeRestStore store;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    ServeRestHandler(ServeRestStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        Reply reply;
+        try {
+            reply = dispatch(exchange);
+        } catch (JsonProcessingException e) {
+            reply = ServeRestStore.message(400, "Adicione body em formato JSON válido");
+        } catch (RuntimeException e) {
+            reply = ServeRestStore.message(500, "Erro interno do servidor: " + e.getMessage());
+        }
+        byte[] payload = objectMapper.writeValueAsBytes(reply.body());
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(reply.status(), payload.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(payload);
+        }
+    }
+
+    private Reply dispatch(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        String[] segments = path.replaceAll("^/+|/+$", "").split("/");
+        String resource = segments[0];
+        String id = segments.length > 1 ? segments[1] : null;
+        String token = exchange.getRequestHeaders().getFirst("Authorization");
+
+        if (segments.length > 2) {
+            return notAllowed(method, path);
+        }
+        switch (resource) {
+            case "login":
+                if (id == null && "POST".equals(method)) {
+                    return store.login(readBody(exchange));
+                }
+                break;
+            case "usuarios":
+                if (id == null) {
+                    if ("GET".equals(method)) {
+                        return store.listUsers(readQuery(exchange));
+                    }
+                    if ("POST".equals(method)) {
+                        return store.createUser(readBody(exchange));
+                    }
+                } else {
+                    switch (method) {
+                        case "GET":
+                            return store.getUser(id);
+                        case "PUT":
+                            return store.updateUser(id, readBody(exchange));
+                        case "DELETE":
+                            return store.deleteUser(id);
+                        default:
+                            break;
+                    }
+                }
+                break;
+            case "produtos":
+                if (id == null) {
+                    if ("GET".equals(method)) {
+                        return store.listProducts(readQuery(exchange));
+                    }
+                    if ("POST".equals(method)) {
+                        return store.createProduct(token, readBody(exchange));
+                    }
+                } else {
+                    switch (method) {
+                        case "GET":
+                            return store.getProduct(id);
+                        case "PUT":
+                            return store.updateProduct(token, id, readBody(exchange));
+                        case "DELETE":
+                            return store.deleteProduct(token, id);
+                        default:
+                            break;
+                    }
+                }
+                break;
+            case "carrinhos":
+                if (id == null) {
+                    if ("GET".equals(method)) {
+                        return store.listCarts(readQuery(exchange));
+                    }
+                    if ("POST".equals(method)) {
+                        return store.createCart(token, readBody(exchange));
+                    }
+                } else if ("concluir-compra".equals(id) && "DELETE".equals(method)) {
+                    return store.concludePurchase(token);
+                } else if ("cancelar-compra".equals(id) && "DELETE".equals(method)) {
+                    return store.cancelPurchase(token);
+                } else if ("GET".equals(method)) {
+                    return store.getCart(id);
+                }
+                break;
+            default:
+                break;
+        }
+        return notAllowed(method, path);
+    }
+
+    private static Reply notAllowed(String method, String path) {
+        return ServeRestStore.message(405, "Não é possível realizar " + method + " em " + path
+                + ". Acesse https://serverest.dev para ver as rotas disponíveis e como utilizá-las.");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readAllBytes();
+            if (bytes.length == 0) {
+                return new LinkedHashMap<>();
+            }
+            return objectMapper.readValue(bytes, Map.class);
+        }
+    }
+
+    private static Map<String, String> readQuery(HttpExchange exchange) {
+        Map<String, String> query = new LinkedHashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null || raw.isEmpty()) {
+            return query;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+}
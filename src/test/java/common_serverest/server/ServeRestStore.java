@@ -0,0 +1,688 @@
+package common_serverest.server;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory ServeRest domain: users, products, carts and login sessions.
+ *
+ * Reads go straight to the concurrent maps. Every write that must keep more than one
+ * map consistent (unique e-mail/name indexes, cart creation with stock reservation,
+ * cancel/conclude purchase) runs under a single write lock, so concurrent suites see
+ * the same business rules as the public server.
+ */
+public final class ServeRestStore {
+
+    static final String MSG_CREATED = "Cadastro realizado com sucesso";
+    static final String MSG_UPDATED = "Registro alterado com sucesso";
+    static final String MSG_DELETED = "Registro excluído com sucesso";
+    static final String MSG_NOTHING_DELETED = "Nenhum registro excluído";
+    static final String MSG_LOGIN_OK = "Login realizado com sucesso";
+    static final String MSG_LOGIN_FAILED = "Email e/ou senha inválidos";
+    static final String MSG_TOKEN = "Token de acesso ausente, inválido, expirado ou usuário do token não existe mais";
+    static final String MSG_ADMIN_ONLY = "Rota exclusiva para administradores";
+    static final String MSG_EMAIL_IN_USE = "Este email já está sendo usado";
+    static final String MSG_PRODUCT_NAME_IN_USE = "Já existe produto com esse nome";
+    static final String MSG_USER_NOT_FOUND = "Usuário não encontrado";
+    static final String MSG_PRODUCT_NOT_FOUND = "Produto não encontrado";
+    static final String MSG_CART_NOT_FOUND = "Carrinho não encontrado";
+    static final String MSG_USER_HAS_CART = "Não é permitido excluir usuário com carrinho cadastrado";
+    static final String MSG_PRODUCT_IN_CART = "Não é permitido excluir produto que faz parte de carrinho";
+    static final String MSG_ONE_CART_ONLY = "Não é permitido ter mais de 1 carrinho";
+    static final String MSG_DUPLICATED_PRODUCT = "Não é permitido possuir produto duplicado";
+    static final String MSG_NOT_ENOUGH_STOCK = "Produto não possui quantidade suficiente";
+    static final String MSG_NO_CART = "Não foi encontrado carrinho para esse usuário";
+    static final String MSG_CANCELLED = MSG_DELETED + ". Estoque dos produtos reabastecido";
+    static final String MSG_INVALID_ID = "id deve ter exatamente 16 caracteres alfanuméricos";
+
+    /** ServeRest tokens expire ten minutes after login. */
+    public static final long TOKEN_TTL_MILLIS = 600_000L;
+
+    private static final Pattern ID_PATTERN = Pattern.compile("[A-Za-z0-9]{16}");
+    private static final Pattern EMAIL_PATTERN =
+            Pattern.compile("^[A-Za-z0-9.!#$%&'*+/=?^_`{|}~-]+@[A-Za-z0-9-]+(\\.[A-Za-z0-9-]+)*\\.[A-Za-z]{2,}$");
+    private static final Set<String> PARTIAL_PRODUCT_FILTERS = Set.of("nome", "descricao");
+    private static final char[] ID_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+    private static final String JWT_HEADER = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9";
+
+    record Reply(int status, Object body) {
+    }
+
+    record User(String id, String nome, String email, String password, String administrador) {
+        boolean isAdmin() {
+            return "true".equals(administrador);
+        }
+
+        Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("nome", nome);
+            json.put("email", email);
+            json.put("password", password);
+            json.put("administrador", administrador);
+            json.put("_id", id);
+            return json;
+        }
+    }
+
+    record Product(String id, String nome, int preco, String descricao, int quantidade) {
+        Product withQuantidade(int newQuantidade) {
+            return new Product(id, nome, preco, descricao, newQuantidade);
+        }
+
+        Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("nome", nome);
+            json.put("preco", preco);
+            json.put("descricao", descricao);
+            json.put("quantidade", quantidade);
+            json.put("_id", id);
+            return json;
+        }
+    }
+
+    record CartItem(String idProduto, int quantidade, int precoUnitario) {
+        Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("idProduto", idProduto);
+            json.put("quantidade", quantidade);
+            json.put("precoUnitario", precoUnitario);
+            return json;
+        }
+    }
+
+    record Cart(String id, String idUsuario, List<CartItem> produtos, int precoTotal, int quantidadeTotal) {
+        Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("produtos", produtos.stream().map(CartItem::toJson).toList());
+            json.put("precoTotal", precoTotal);
+            json.put("quantidadeTotal", quantidadeTotal);
+            json.put("idUsuario", idUsuario);
+            json.put("_id", id);
+            return json;
+        }
+    }
+
+    private record Session(String email, long expiresAt) {
+    }
+
+    private final Map<String, User> users = new ConcurrentHashMap<>();
+    private final Map<String, String> userIdsByEmail = new ConcurrentHashMap<>();
+    private final Map<String, Product> products = new ConcurrentHashMap<>();
+    private final Map<String, String> productIdsByName = new ConcurrentHashMap<>();
+    private final Map<String, Cart> carts = new ConcurrentHashMap<>();
+    private final Map<String, String> cartIdsByUser = new ConcurrentHashMap<>();
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    public ServeRestStore() {
+        seed();
+    }
+
+    /**
+     * Same fixtures the public server ships with; the suites rely on them
+     * (fulano@qa.com in loginPayload.json, the Logitech product in the search scenarios).
+     */
+    private void seed() {
+        putUser(new User("0uxuPY0cbmQhpEz1", "Fulano da Silva", "fulano@qa.com", "teste", "true"));
+        putProduct(new Product("BeeJh5lz3k6kSIzA", "Logitech MX Vertical", 470, "Mouse", 382));
+        putProduct(new Product("K6leHdftCeOJj8BJ", "Samsung 60 polegadas", 5240, "TV", 49));
+    }
+
+    // ---------------------------------------------------------------- login
+
+    Reply login(Map<String, Object> body) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        String email = requireEmail(body, "email", errors);
+        String password = requireString(body, "password", errors);
+        if (!errors.isEmpty()) {
+            return new Reply(400, errors);
+        }
+        User user = findUserByEmail(email);
+        if (user == null || !user.password().equals(password)) {
+            return message(401, MSG_LOGIN_FAILED);
+        }
+        String token = issueToken(user);
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("message", MSG_LOGIN_OK);
+        json.put("authorization", token);
+        return new Reply(200, json);
+    }
+
+    private String issueToken(User user) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + TOKEN_TTL_MILLIS;
+        String claims = "{\"email\":\"" + user.email() + "\",\"iat\":" + now / 1000
+                + ",\"exp\":" + expiresAt / 1000 + ",\"jti\":\"" + newId() + "\"}";
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String token = "Bearer " + JWT_HEADER
+                + "." + encoder.encodeToString(claims.getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(newId().concat(newId()).getBytes(StandardCharsets.US_ASCII));
+        sessions.put(token, new Session(user.email(), expiresAt));
+        return token;
+    }
+
+    /**
+     * Returns the user behind an Authorization header, or {@code null} when the token is
+     * missing, unknown, expired or belongs to a user that no longer exists.
+     */
+    private User authenticate(String authorization) {
+        if (authorization == null) {
+            return null;
+        }
+        Session session = sessions.get(authorization);
+        if (session == null) {
+            return null;
+        }
+        if (session.expiresAt() < System.currentTimeMillis()) {
+            sessions.remove(authorization);
+            return null;
+        }
+        return findUserByEmail(session.email());
+    }
+
+    // ---------------------------------------------------------------- usuarios
+
+    Reply listUsers(Map<String, String> query) {
+        List<Map<String, Object>> found = new ArrayList<>();
+        for (User user : users.values()) {
+            Map<String, Object> json = user.toJson();
+            if (matches(json, query)) {
+                found.add(json);
+            }
+        }
+        return list("usuarios", found);
+    }
+
+    Reply getUser(String id) {
+        if (!ID_PATTERN.matcher(id).matches()) {
+            return invalidId();
+        }
+        User user = users.get(id);
+        return user == null ? message(400, MSG_USER_NOT_FOUND) : new Reply(200, user.toJson());
+    }
+
+    Reply createUser(Map<String, Object> body) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        User candidate = readUser(null, body, errors);
+        if (!errors.isEmpty()) {
+            return new Reply(400, errors);
+        }
+        synchronized (writeLock) {
+            if (userIdsByEmail.containsKey(candidate.email())) {
+                return message(400, MSG_EMAIL_IN_USE);
+            }
+            User user = new User(newUniqueId(users), candidate.nome(), candidate.email(),
+                    candidate.password(), candidate.administrador());
+            putUser(user);
+            return created(user.id());
+        }
+    }
+
+    Reply updateUser(String id, Map<String, Object> body) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        User candidate = readUser(id, body, errors);
+        if (!errors.isEmpty()) {
+            return new Reply(400, errors);
+        }
+        synchronized (writeLock) {
+            String owner = userIdsByEmail.get(candidate.email());
+            if (owner != null && !owner.equals(id)) {
+                return message(400, MSG_EMAIL_IN_USE);
+            }
+            User previous = users.get(id);
+            if (previous == null) {
+                User user = new User(newUniqueId(users), candidate.nome(), candidate.email(),
+                        candidate.password(), candidate.administrador());
+                putUser(user);
+                return created(user.id());
+            }
+            userIdsByEmail.remove(previous.email());
+            putUser(candidate);
+            return message(200, MSG_UPDATED);
+        }
+    }
+
+    Reply deleteUser(String id) {
+        synchronized (writeLock) {
+            String cartId = cartIdsByUser.get(id);
+            if (cartId != null) {
+                Map<String, Object> json = new LinkedHashMap<>();
+                json.put("message", MSG_USER_HAS_CART);
+                json.put("idCarrinho", cartId);
+                return new Reply(400, json);
+            }
+            User removed = users.remove(id);
+            if (removed == null) {
+                return message(200, MSG_NOTHING_DELETED);
+            }
+            userIdsByEmail.remove(removed.email());
+            return message(200, MSG_DELETED);
+        }
+    }
+
+    private User readUser(String id, Map<String, Object> body, Map<String, String> errors) {
+        String nome = requireString(body, "nome", errors);
+        String email = requireEmail(body, "email", errors);
+        String password = requireString(body, "password", errors);
+        Object administrador = body.get("administrador");
+        if (administrador == null) {
+            errors.put("administrador", "administrador é obrigatório");
+        } else if (!"true".equals(administrador) && !"false".equals(administrador)) {
+            errors.put("administrador", "administrador deve ser 'true' ou 'false'");
+        }
+        return new User(id, nome, email, password, String.valueOf(administrador));
+    }
+
+    private void putUser(User user) {
+        users.put(user.id(), user);
+        userIdsByEmail.put(user.email(), user.id());
+    }
+
+    private User findUserByEmail(String email) {
+        String id = userIdsByEmail.get(email);
+        return id == null ? null : users.get(id);
+    }
+
+    // ---------------------------------------------------------------- produtos
+
+    Reply listProducts(Map<String, String> query) {
+        List<Map<String, Object>> found = new ArrayList<>();
+        for (Product product : products.values()) {
+            Map<String, Object> json = product.toJson();
+            if (matches(json, query, PARTIAL_PRODUCT_FILTERS)) {
+                found.add(json);
+            }
+        }
+        return list("produtos", found);
+    }
+
+    Reply getProduct(String id) {
+        if (!ID_PATTERN.matcher(id).matches()) {
+            return invalidId();
+        }
+        Product product = products.get(id);
+        return product == null ? message(400, MSG_PRODUCT_NOT_FOUND) : new Reply(200, product.toJson());
+    }
+
+    Reply createProduct(String authorization, Map<String, Object> body) {
+        Reply denied = requireAdmin(authorization);
+        if (denied != null) {
+            return denied;
+        }
+        Map<String, String> errors = new LinkedHashMap<>();
+        Product candidate = readProduct(null, body, errors);
+        if (!errors.isEmpty()) {
+            return new Reply(400, errors);
+        }
+        synchronized (writeLock) {
+            if (productIdsByName.containsKey(candidate.nome())) {
+                return message(400, MSG_PRODUCT_NAME_IN_USE);
+            }
+            Product product = new Product(newUniqueId(products), candidate.nome(), candidate.preco(),
+                    candidate.descricao(), candidate.quantidade());
+            putProduct(product);
+            return created(product.id());
+        }
+    }
+
+    Reply updateProduct(String authorization, String id, Map<String, Object> body) {
+        Reply denied = requireAdmin(authorization);
+        if (denied != null) {
+            return denied;
+        }
+        Map<String, String> errors = new LinkedHashMap<>();
+        Product candidate = readProduct(id, body, errors);
+        if (!errors.isEmpty()) {
+            return new Reply(400, errors);
+        }
+        synchronized (writeLock) {
+            String owner = productIdsByName.get(candidate.nome());
+            if (owner != null && !owner.equals(id)) {
+                return message(400, MSG_PRODUCT_NAME_IN_USE);
+            }
+            Product previous = products.get(id);
+            if (previous == null) {
+                Product product = new Product(newUniqueId(products), candidate.nome(), candidate.preco(),
+                        candidate.descricao(), candidate.quantidade());
+                putProduct(product);
+                return created(product.id());
+            }
+            productIdsByName.remove(previous.nome());
+            putProduct(candidate);
+            return message(200, MSG_UPDATED);
+        }
+    }
+
+    Reply deleteProduct(String authorization, String id) {
+        Reply denied = requireAdmin(authorization);
+        if (denied != null) {
+            return denied;
+        }
+        synchronized (writeLock) {
+            List<String> cartIds = new ArrayList<>();
+            for (Cart cart : carts.values()) {
+                if (cart.produtos().stream().anyMatch(item -> item.idProduto().equals(id))) {
+                    cartIds.add(cart.id());
+                }
+            }
+            if (!cartIds.isEmpty()) {
+                Map<String, Object> json = new LinkedHashMap<>();
+                json.put("message", MSG_PRODUCT_IN_CART);
+                json.put("idCarrinhos", cartIds);
+                return new Reply(400, json);
+            }
+            Product removed = products.remove(id);
+            if (removed == null) {
+                return message(200, MSG_NOTHING_DELETED);
+            }
+            productIdsByName.remove(removed.nome());
+            return message(200, MSG_DELETED);
+        }
+    }
+
+    private Product readProduct(String id, Map<String, Object> body, Map<String, String> errors) {
+        String nome = requireString(body, "nome", errors);
+        String descricao = requireString(body, "descricao", errors);
+        Integer preco = requireInteger(body, "preco", errors);
+        if (preco != null && preco <= 0) {
+            errors.put("preco", "preco deve ser um número positivo");
+        }
+        Integer quantidade = requireInteger(body, "quantidade", errors);
+        if (quantidade != null && quantidade < 0) {
+            errors.put("quantidade", "quantidade deve ser maior ou igual a 0");
+        }
+        return new Product(id, nome, preco == null ? 0 : preco, descricao, quantidade == null ? 0 : quantidade);
+    }
+
+    private void putProduct(Product product) {
+        products.put(product.id(), product);
+        productIdsByName.put(product.nome(), product.id());
+    }
+
+    // ---------------------------------------------------------------- carrinhos
+
+    Reply listCarts(Map<String, String> query) {
+        List<Map<String, Object>> found = new ArrayList<>();
+        for (Cart cart : carts.values()) {
+            Map<String, Object> json = cart.toJson();
+            if (matches(json, query)) {
+                found.add(json);
+            }
+        }
+        return list("carrinhos", found);
+    }
+
+    Reply getCart(String id) {
+        if (!ID_PATTERN.matcher(id).matches()) {
+            return invalidId();
+        }
+        Cart cart = carts.get(id);
+        return cart == null ? message(400, MSG_CART_NOT_FOUND) : new Reply(200, cart.toJson());
+    }
+
+    Reply createCart(String authorization, Map<String, Object> body) {
+        User user = authenticate(authorization);
+        if (user == null) {
+            return message(401, MSG_TOKEN);
+        }
+        Map<String, String> errors = new LinkedHashMap<>();
+        List<CartItem> requested = readCartItems(body, errors);
+        if (!errors.isEmpty()) {
+            return new Reply(400, errors);
+        }
+        synchronized (writeLock) {
+            if (cartIdsByUser.containsKey(user.id())) {
+                return message(400, MSG_ONE_CART_ONLY);
+            }
+            Set<String> seen = new HashSet<>();
+            List<String> duplicated = new ArrayList<>();
+            for (CartItem item : requested) {
+                if (!seen.add(item.idProduto())) {
+                    duplicated.add(item.idProduto());
+                }
+            }
+            if (!duplicated.isEmpty()) {
+                Map<String, Object> json = new LinkedHashMap<>();
+                json.put("message", MSG_DUPLICATED_PRODUCT);
+                json.put("idProdutos", duplicated);
+                return new Reply(400, json);
+            }
+            List<CartItem> items = new ArrayList<>();
+            for (int index = 0; index < requested.size(); index++) {
+                CartItem item = requested.get(index);
+                Product product = products.get(item.idProduto());
+                if (product == null) {
+                    return itemError(MSG_PRODUCT_NOT_FOUND, item, index, null);
+                }
+                if (product.quantidade() < item.quantidade()) {
+                    return itemError(MSG_NOT_ENOUGH_STOCK, item, index, product.quantidade());
+                }
+                items.add(new CartItem(item.idProduto(), item.quantidade(), product.preco()));
+            }
+            int precoTotal = 0;
+            int quantidadeTotal = 0;
+            for (CartItem item : items) {
+                Product product = products.get(item.idProduto());
+                products.put(product.id(), product.withQuantidade(product.quantidade() - item.quantidade()));
+                precoTotal += item.precoUnitario() * item.quantidade();
+                quantidadeTotal += item.quantidade();
+            }
+            Cart cart = new Cart(newUniqueId(carts), user.id(), List.copyOf(items), precoTotal, quantidadeTotal);
+            carts.put(cart.id(), cart);
+            cartIdsByUser.put(user.id(), cart.id());
+            return created(cart.id());
+        }
+    }
+
+    /**
+     * DELETE /carrinhos/concluir-compra: the cart is removed and the reserved stock is kept.
+     */
+    Reply concludePurchase(String authorization) {
+        return closeCart(authorization, false);
+    }
+
+    /**
+     * DELETE /carrinhos/cancelar-compra: the cart is removed and its items go back to stock.
+     */
+    Reply cancelPurchase(String authorization) {
+        return closeCart(authorization, true);
+    }
+
+    private Reply closeCart(String authorization, boolean restock) {
+        User user = authenticate(authorization);
+        if (user == null) {
+            return message(401, MSG_TOKEN);
+        }
+        synchronized (writeLock) {
+            String cartId = cartIdsByUser.remove(user.id());
+            if (cartId == null) {
+                return message(200, MSG_NO_CART);
+            }
+            Cart cart = carts.remove(cartId);
+            if (restock) {
+                for (CartItem item : cart.produtos()) {
+                    Product product = products.get(item.idProduto());
+                    if (product != null) {
+                        products.put(product.id(), product.withQuantidade(product.quantidade() + item.quantidade()));
+                    }
+                }
+                return message(200, MSG_CANCELLED);
+            }
+            return message(200, MSG_DELETED);
+        }
+    }
+
+    private List<CartItem> readCartItems(Map<String, Object> body, Map<String, String> errors) {
+        Object produtos = body.get("produtos");
+        if (!(produtos instanceof List<?> list)) {
+            errors.put("produtos", produtos == null ? "produtos é obrigatório" : "produtos deve ser um array");
+            return List.of();
+        }
+        if (list.isEmpty()) {
+            errors.put("produtos", "produtos não contém 1 valor obrigatório");
+            return List.of();
+        }
+        List<CartItem> items = new ArrayList<>();
+        for (int index = 0; index < list.size(); index++) {
+            if (!(list.get(index) instanceof Map<?, ?> raw)) {
+                errors.put("produtos[" + index + "]", "produtos[" + index + "] deve ser um objeto");
+                continue;
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> item = (Map<String, Object>) raw;
+            String prefix = "produtos[" + index + "].";
+            Map<String, String> itemErrors = new LinkedHashMap<>();
+            String idProduto = requireString(item, "idProduto", itemErrors);
+            Integer quantidade = requireInteger(item, "quantidade", itemErrors);
+            if (quantidade != null && quantidade <= 0) {
+                itemErrors.put("quantidade", "quantidade deve ser um número positivo");
+            }
+            itemErrors.forEach((field, error) -> errors.put(prefix + field, prefix + error));
+            if (itemErrors.isEmpty()) {
+                items.add(new CartItem(idProduto, quantidade, 0));
+            }
+        }
+        return items;
+    }
+
+    private static Reply itemError(String message, CartItem item, int index, Integer stock) {
+        Map<String, Object> detail = new LinkedHashMap<>();
+        detail.put("idProduto", item.idProduto());
+        detail.put("quantidade", item.quantidade());
+        if (stock != null) {
+            detail.put("quantidadeEstoque", stock);
+        }
+        detail.put("index", index);
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("message", message);
+        json.put("item", detail);
+        return new Reply(400, json);
+    }
+
+    // ---------------------------------------------------------------- helpers
+
+    private Reply requireAdmin(String authorization) {
+        User user = authenticate(authorization);
+        if (user == null) {
+            return message(401, MSG_TOKEN);
+        }
+        return user.isAdmin() ? null : message(403, MSG_ADMIN_ONLY);
+    }
+
+    private static String requireString(Map<String, Object> body, String field, Map<String, String> errors) {
+        Object value = body.get(field);
+        if (value == null) {
+            errors.put(field, field + " é obrigatório");
+            return null;
+        }
+        if (!(value instanceof String text)) {
+            errors.put(field, field + " deve ser uma string");
+            return null;
+        }
+        if (text.isBlank()) {
+            errors.put(field, field + " não pode ficar em branco");
+            return null;
+        }
+        return text;
+    }
+
+    private static String requireEmail(Map<String, Object> body, String field, Map<String, String> errors) {
+        String email = requireString(body, field, errors);
+        if (email != null && !EMAIL_PATTERN.matcher(email).matches()) {
+            errors.put(field, field + " deve ser um email válido");
+            return null;
+        }
+        return email;
+    }
+
+    private static Integer requireInteger(Map<String, Object> body, String field, Map<String, String> errors) {
+        Object value = body.get(field);
+        if (value == null) {
+            errors.put(field, field + " é obrigatório");
+            return null;
+        }
+        if (!(value instanceof Number number)) {
+            errors.put(field, field + " deve ser um número");
+            return null;
+        }
+        if (number.doubleValue() != Math.rint(number.doubleValue())) {
+            errors.put(field, field + " deve ser um inteiro");
+            return null;
+        }
+        return number.intValue();
+    }
+
+    private static boolean matches(Map<String, Object> json, Map<String, String> query) {
+        return matches(json, query, Set.of());
+    }
+
+    /**
+     * Query filters compare the field's string value; fields in {@code partial} match by substring.
+     */
+    private static boolean matches(Map<String, Object> json, Map<String, String> query, Set<String> partial) {
+        for (Map.Entry<String, String> filter : query.entrySet()) {
+            String actual = String.valueOf(json.get(filter.getKey()));
+            boolean ok = partial.contains(filter.getKey())
+                    ? actual.contains(filter.getValue())
+                    : Objects.equals(actual, filter.getValue());
+            if (!ok) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Reply list(String key, List<Map<String, Object>> items) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("quantidade", items.size());
+        json.put(key, items);
+        return new Reply(200, json);
+    }
+
+    private static Reply created(String id) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("message", MSG_CREATED);
+        json.put("_id", id);
+        return new Reply(201, json);
+    }
+
+    static Reply message(int status, String message) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("message", message);
+        return new Reply(status, json);
+    }
+
+    private static Reply invalidId() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", MSG_INVALID_ID);
+        return new Reply(400, json);
+    }
+
+    private static String newUniqueId(Map<String, ?> existing) {
+        String id = newId();
+        while (existing.containsKey(id)) {
+            id = newId();
+        }
+        return id;
+    }
+
+    private static String newId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] id = new char[16];
+        for (int i = 0; i < id.length; i++) {
+            id[i] = ID_ALPHABET[random.nextInt(ID_ALPHABET.length)];
+        }
+        return new String(id);
+    }
+}
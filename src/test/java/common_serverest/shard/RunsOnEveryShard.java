@@ -0,0 +1,18 @@
+package common_serverest.shard;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Keeps a test method (or every method of a class) on all shards: for runners that split their
+ * own work, such as the Karate {@code Runner.parallel} tests, which run only this shard's
+ * features and scenarios.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface RunsOnEveryShard {
+}
@@ -0,0 +1,188 @@
+package common_serverest.shard;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import common_serverest.timing.DurationStore;
+
+/**
+ * One slice of the regression for one CI machine, from {@code -Dshard=<index>/<count>}
+ * (1-based, e.g. {@code -Dshard=3/8}). Without the property every test is owned.
+ *
+ * The plan is built only from a pinned timings file, {@code -Dshard.timings} (default
+ * {@code shard-timings.properties} in the working directory), never from what the current JVM
+ * discovered nor from the {@link DurationStore} history, which every JVM rewrites at exit. No
+ * run writes the pinned file: refresh it from the {@code durations.properties} merged by
+ * {@link ShardReports} and share it with every machine (commit or cache it), so that all
+ * machines, forks and reruns compute the same plan and each test runs on exactly one shard.
+ * Work units are Karate features and JUnit classes; a unit longer than its share
+ * ({@code total / count}) is split into its scenarios or methods. Units are packed
+ * longest-first into the lightest shard, each top-level package on its own so that the
+ * RestAssured, Playwright and Karate suites are each balanced. Units without history go to
+ * {@code hash(key) mod count}.
+ */
+public final class Shard {
+
+    public static final String PROPERTY = "shard";
+    public static final String TIMINGS_PROPERTY = "shard.timings";
+
+    private static final String KARATE = "karate:";
+    private static final String JUNIT = "junit:";
+
+    private static final Logger logger = LoggerFactory.getLogger(Shard.class);
+
+    private static final class Holder {
+        private static final Shard INSTANCE = current(System.getProperty(PROPERTY));
+    }
+
+    private final int index;
+    private final int count;
+    private final Map<String, Integer> plan;
+    private final Set<String> split;
+
+    private Shard(int index, int count, Map<String, Integer> plan, Set<String> split) {
+        this.index = index;
+        this.count = count;
+        this.plan = plan;
+        this.split = split;
+    }
+
+    public static Shard current() {
+        return Holder.INSTANCE;
+    }
+
+    private static Shard current(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return parse(spec, Map.of());
+        }
+        Path timings = Path.of(System.getProperty(TIMINGS_PROPERTY, "shard-timings.properties"));
+        Map<String, Long> history = DurationStore.load(timings);
+        if (history.isEmpty()) {
+            logger.warn("shard {}: no pinned timings in {}, every test goes to hash(key) mod count", spec, timings);
+        }
+        return parse(spec, history);
+    }
+
+    static Shard parse(String spec, Map<String, Long> history) {
+        if (spec == null || spec.isBlank()) {
+            return new Shard(0, 1, Map.of(), Set.of());
+        }
+        String[] parts = spec.trim().split("/");
+        int index;
+        int count;
+        try {
+            index = Integer.parseInt(parts[0].trim());
+            count = parts.length == 2 ? Integer.parseInt(parts[1].trim()) : -1;
+        } catch (NumberFormatException e) {
+            count = -1;
+            index = -1;
+        }
+        if (count < 1 || index < 1 || index > count) {
+            throw new IllegalArgumentException("-D" + PROPERTY + " must be <index>/<count> with 1 <= index <= count, got " + spec);
+        }
+        Map<String, Integer> plan = new HashMap<>();
+        Set<String> split = new HashSet<>();
+        pack(history, KARATE, "::", count, plan, split);
+        pack(history, JUNIT, "#", count, plan, split);
+        return new Shard(index - 1, count, Map.copyOf(plan), Set.copyOf(split));
+    }
+
+    public boolean isSharded() {
+        return count > 1;
+    }
+
+    /**
+     * Whether this shard runs the feature at all; a split feature runs on every shard that owns
+     * one of its scenarios, so it is always entered and filtered per scenario.
+     */
+    public boolean ownsFeature(String qualifiedName) {
+        String key = DurationStore.karateFeature(qualifiedName);
+        return !isSharded() || split.contains(key) || owner(key) == index;
+    }
+
+    public boolean ownsScenario(String qualifiedName, String scenarioName) {
+        return owns(DurationStore.karateFeature(qualifiedName), DurationStore.karateScenario(qualifiedName, scenarioName));
+    }
+
+    public boolean ownsTest(String className, String methodName) {
+        return owns(DurationStore.junitClass(className), DurationStore.junitMethod(className, methodName));
+    }
+
+    private boolean owns(String parentKey, String childKey) {
+        return !isSharded() || owner(split.contains(parentKey) ? childKey : parentKey) == index;
+    }
+
+    int owner(String key) {
+        Integer planned = plan.get(key);
+        // String.hashCode is specified, so unknown keys land on the same shard on every machine
+        return planned != null ? planned : Math.floorMod(key.hashCode(), count);
+    }
+
+    @Override
+    public String toString() {
+        return (index + 1) + "/" + count;
+    }
+
+    static void pack(Map<String, Long> history, String prefix, String separator, int count,
+            Map<String, Integer> plan, Set<String> split) {
+        Map<String, Long> parents = new HashMap<>();
+        Map<String, List<String>> children = new HashMap<>();
+        history.forEach((key, millis) -> {
+            if (!key.startsWith(prefix)) {
+                return;
+            }
+            int at = key.indexOf(separator);
+            if (at < 0) {
+                parents.put(key, millis);
+            } else {
+                children.computeIfAbsent(key.substring(0, at), parent -> new ArrayList<>()).add(key);
+            }
+        });
+
+        Map<String, Map<String, Long>> groups = new HashMap<>();
+        parents.forEach((parent, millis) -> groups.computeIfAbsent(group(parent, prefix), g -> new HashMap<>()).put(parent, millis));
+        groups.forEach((group, members) -> {
+            long share = members.values().stream().mapToLong(Long::longValue).sum() / count;
+            Map<String, Long> units = new HashMap<>();
+            members.forEach((parent, millis) -> {
+                List<String> parts = children.getOrDefault(parent, List.of());
+                if (millis > share && !parts.isEmpty()) {
+                    split.add(parent);
+                    parts.forEach(part -> units.put(part, history.get(part)));
+                } else {
+                    units.put(parent, millis);
+                }
+            });
+            long[] load = new long[count];
+            units.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .forEach(unit -> {
+                        int lightest = 0;
+                        for (int shard = 1; shard < count; shard++) {
+                            if (load[shard] < load[lightest]) {
+                                lightest = shard;
+                            }
+                        }
+                        load[lightest] += unit.getValue();
+                        plan.put(unit.getKey(), lightest);
+                    });
+        });
+    }
+
+    /** Top-level package, e.g. {@code restassured_serverest}; default-package classes are their own group. */
+    private static String group(String key, String prefix) {
+        String name = key.substring(prefix.length());
+        int dot = name.indexOf('.');
+        return dot < 0 ? name : name.substring(0, dot);
+    }
+}
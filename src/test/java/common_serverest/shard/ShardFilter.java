@@ -0,0 +1,30 @@
+package common_serverest.shard;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+/**
+ * Drops the JUnit test methods that belong to another {@link Shard}. Registered in
+ * {@code META-INF/services/org.junit.platform.launcher.PostDiscoveryFilter}, so it applies to
+ * every engine and suite; without {@code -Dshard} it keeps everything.
+ */
+public class ShardFilter implements PostDiscoveryFilter {
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        Shard shard = Shard.current();
+        TestSource source = descriptor.getSource().orElse(null);
+        if (!shard.isSharded() || !(source instanceof MethodSource method)) {
+            return FilterResult.included("not sharded");
+        }
+        if (method.getJavaClass().isAnnotationPresent(RunsOnEveryShard.class)
+                || method.getJavaMethod().isAnnotationPresent(RunsOnEveryShard.class)) {
+            return FilterResult.included("runs on every shard");
+        }
+        return FilterResult.includedIf(shard.ownsTest(method.getClassName(), method.getMethodName()),
+                () -> "in shard " + shard, () -> "not in shard " + shard);
+    }
+}
@@ -0,0 +1,207 @@
+package common_serverest.shard;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Merges the {@code target} directories of the shards of one run into a single one:
+ *
+ * <pre>
+ * java common_serverest.shard.ShardReports &lt;out&gt; &lt;shard target dir&gt;...
+ * </pre>
+ *
+ * Files are copied by their path relative to each shard directory. When two shards wrote the
+ * same file (a Karate feature or JUnit class split across shards) it is merged:
+ * JUnit XML {@code <testsuite>}s get the test cases of both and summed counters, Cucumber JSON
+ * features get the scenarios of both, Karate JSON ({@code *.karate-json.txt}) the scenario
+ * results and counts of both, and {@code durations.properties} keeps the longest time per key.
+ * Allure result files have unique names and are simply copied. Any other collision (HTML,
+ * summaries) keeps the first shard's file.
+ */
+public final class ShardReports {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardReports.class);
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final List<String> XML_COUNTERS = List.of("tests", "failures", "errors", "skipped", "time");
+    private static final List<String> KARATE_COUNTERS = List.of("passedCount", "failedCount", "durationMillis");
+
+    private ShardReports() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("usage: ShardReports <out> <shard target dir>...");
+            System.exit(2);
+        }
+        Path out = Path.of(args[0]);
+        List<Path> shards = Stream.of(args).skip(1).map(Path::of).toList();
+        int merged = 0;
+        for (Path shard : shards) {
+            try (Stream<Path> files = Files.walk(shard)) {
+                for (Path file : files.filter(Files::isRegularFile).toList()) {
+                    Path target = out.resolve(shard.relativize(file).toString());
+                    if (target.toAbsolutePath().equals(file.toAbsolutePath())) {
+                        continue;
+                    }
+                    Files.createDirectories(target.getParent());
+                    if (!Files.exists(target)) {
+                        Files.copy(file, target);
+                    } else if (merge(file, target)) {
+                        merged++;
+                    }
+                }
+            }
+        }
+        logger.info("merged {} shard directories into {} ({} files combined)", shards.size(), out, merged);
+    }
+
+    /**
+     * Folds {@code from} into the existing {@code into}; false when the type is not mergeable.
+     */
+    static boolean merge(Path from, Path into) throws Exception {
+        String name = from.getFileName().toString();
+        if (name.endsWith(".xml")) {
+            return mergeJUnitXml(from, into);
+        }
+        if (name.endsWith(".karate-json.txt")) {
+            return mergeKarateJson(from, into);
+        }
+        if (name.endsWith(".json")) {
+            return mergeCucumberJson(from, into);
+        }
+        if (name.equals("durations.properties")) {
+            mergeDurations(from, into);
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean mergeJUnitXml(Path from, Path into) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        Document target = factory.newDocumentBuilder().parse(into.toFile());
+        Document source = factory.newDocumentBuilder().parse(from.toFile());
+        Element targetRoot = target.getDocumentElement();
+        Element sourceRoot = source.getDocumentElement();
+        if (!"testsuite".equals(targetRoot.getTagName()) || !"testsuite".equals(sourceRoot.getTagName())) {
+            return false;
+        }
+        for (Node child = sourceRoot.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element element && "testcase".equals(element.getTagName())) {
+                targetRoot.appendChild(target.importNode(element, true));
+            }
+        }
+        for (String counter : XML_COUNTERS) {
+            if (targetRoot.hasAttribute(counter) || sourceRoot.hasAttribute(counter)) {
+                targetRoot.setAttribute(counter, sum(targetRoot.getAttribute(counter), sourceRoot.getAttribute(counter)));
+            }
+        }
+        var transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+        transformer.transform(new DOMSource(target), new StreamResult(into.toFile()));
+        return true;
+    }
+
+    private static boolean mergeCucumberJson(Path from, Path into) throws IOException {
+        JsonNode target = JSON.readTree(into.toFile());
+        JsonNode source = JSON.readTree(from.toFile());
+        if (!target.isArray() || !source.isArray()) {
+            return false;
+        }
+        Map<String, ObjectNode> features = new LinkedHashMap<>();
+        List<JsonNode> all = new ArrayList<>();
+        target.forEach(all::add);
+        source.forEach(all::add);
+        for (JsonNode feature : all) {
+            if (!(feature instanceof ObjectNode object)) {
+                continue;
+            }
+            String id = object.path("uri").asText(object.path("id").asText());
+            ObjectNode existing = features.putIfAbsent(id, object);
+            if (existing != null && object.path("elements") instanceof ArrayNode elements) {
+                existing.withArray("elements").addAll(elements);
+            }
+        }
+        JSON.writerWithDefaultPrettyPrinter().writeValue(into.toFile(), features.values());
+        return true;
+    }
+
+    private static boolean mergeKarateJson(Path from, Path into) throws IOException {
+        JsonNode target = JSON.readTree(into.toFile());
+        JsonNode source = JSON.readTree(from.toFile());
+        if (!(target instanceof ObjectNode merged) || !source.isObject()) {
+            return false;
+        }
+        if (source.path("scenarioResults") instanceof ArrayNode scenarios) {
+            merged.withArray("scenarioResults").addAll(scenarios);
+        }
+        for (String counter : KARATE_COUNTERS) {
+            if (merged.has(counter) || source.has(counter)) {
+                merged.put(counter, new BigDecimal(sum(merged.path(counter).asText(), source.path(counter).asText())));
+            }
+        }
+        JSON.writeValue(into.toFile(), merged);
+        return true;
+    }
+
+    private static void mergeDurations(Path from, Path into) throws IOException {
+        Map<String, String> merged = new TreeMap<>();
+        for (Path file : List.of(into, from)) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            properties.stringPropertyNames().forEach(key -> merged.merge(key, properties.getProperty(key),
+                    (a, b) -> new BigDecimal(a.trim()).max(new BigDecimal(b.trim())).toPlainString()));
+        }
+        Properties properties = new Properties();
+        properties.putAll(merged);
+        Path temporary = into.resolveSibling(into.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            properties.store(writer, "durations in ms, merged from shards by common_serverest.shard.ShardReports");
+        }
+        Files.move(temporary, into, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static String sum(String a, String b) {
+        return number(a).add(number(b)).stripTrailingZeros().toPlainString();
+    }
+
+    private static BigDecimal number(String value) {
+        try {
+            // surefire writes times like "1,234.5" in some locales
+            return value == null || value.isBlank() ? BigDecimal.ZERO : new BigDecimal(value.trim().replace(",", ""));
+        } catch (NumberFormatException e) {
+            return BigDecimal.ZERO;
+        }
+    }
+}
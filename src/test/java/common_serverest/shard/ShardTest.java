@@ -0,0 +1,113 @@
+package common_serverest.shard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ShardTest {
+
+    private static Map<String, Integer> plan(Map<String, Long> history, int count, Set<String> split) {
+        Map<String, Integer> plan = new HashMap<>();
+        Shard.pack(history, "junit:", "#", count, plan, split);
+        return plan;
+    }
+
+    @Test
+    @DisplayName("A class longer than its share is split into its methods")
+    void splitsLongParent() {
+        Map<String, Long> history = Map.of(
+                "junit:a.Long", 1000L,
+                "junit:a.Long#first", 500L,
+                "junit:a.Long#second", 500L,
+                "junit:a.Short", 100L,
+                "junit:a.Short#only", 100L);
+        Set<String> split = new HashSet<>();
+        Map<String, Integer> plan = plan(history, 2, split);
+
+        assertEquals(Set.of("junit:a.Long"), split);
+        assertFalse(plan.containsKey("junit:a.Long"));
+        assertTrue(plan.containsKey("junit:a.Short"));
+        assertFalse(plan.containsKey("junit:a.Short#only"));
+        assertEquals(Set.of(0, 1), Set.of(plan.get("junit:a.Long#first"), plan.get("junit:a.Long#second")));
+    }
+
+    @Test
+    @DisplayName("Equal durations are packed by key, whatever the history order")
+    void tiesAreOrderedByKey() {
+        Map<String, Long> forward = new LinkedHashMap<>();
+        forward.put("junit:a.A", 100L);
+        forward.put("junit:a.B", 100L);
+        forward.put("junit:a.C", 100L);
+        Map<String, Long> backward = new LinkedHashMap<>();
+        backward.put("junit:a.C", 100L);
+        backward.put("junit:a.B", 100L);
+        backward.put("junit:a.A", 100L);
+
+        Map<String, Integer> plan = plan(forward, 2, new HashSet<>());
+
+        assertEquals(Map.of("junit:a.A", 0, "junit:a.B", 1, "junit:a.C", 0), plan);
+        assertEquals(plan, plan(backward, 2, new HashSet<>()));
+    }
+
+    @Test
+    @DisplayName("Top-level packages are balanced separately")
+    void packagesArePackedSeparately() {
+        Map<String, Integer> plan = plan(Map.of("junit:a.A", 300L, "junit:b.B", 100L), 2, new HashSet<>());
+
+        assertEquals(0, plan.get("junit:a.A"));
+        assertEquals(0, plan.get("junit:b.B"));
+    }
+
+    @Test
+    @DisplayName("Unknown keys go to hash(key) mod count")
+    void unknownKeysAreHashed() {
+        Shard shard = Shard.parse("2/3", Map.of("junit:a.Known", 100L));
+        String key = "junit:a.Unknown";
+
+        assertEquals(Math.floorMod(key.hashCode(), 3), shard.owner(key));
+        assertEquals(0, shard.owner("junit:a.Known"));
+    }
+
+    @Test
+    @DisplayName("Every method is owned by exactly one shard")
+    void everyTestOwnedOnce() {
+        Map<String, Long> history = Map.of(
+                "junit:a.Long", 1000L,
+                "junit:a.Long#first", 600L,
+                "junit:a.Long#second", 400L,
+                "junit:a.Short", 100L);
+        String[][] tests = { { "a.Long", "first" }, { "a.Long", "second" }, { "a.Long", "added" },
+                { "a.Short", "any" }, { "a.New", "any" } };
+        for (String[] test : tests) {
+            int owners = 0;
+            for (int index = 1; index <= 3; index++) {
+                if (Shard.parse(index + "/3", history).ownsTest(test[0], test[1])) {
+                    owners++;
+                }
+            }
+            assertEquals(1, owners, test[0] + "#" + test[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("Malformed specs are rejected and a missing one owns everything")
+    void parsesSpec() {
+        assertThrows(IllegalArgumentException.class, () -> Shard.parse("0/2", Map.of()));
+        assertThrows(IllegalArgumentException.class, () -> Shard.parse("3/2", Map.of()));
+        assertThrows(IllegalArgumentException.class, () -> Shard.parse("two", Map.of()));
+
+        Shard all = Shard.parse(null, Map.of());
+        assertFalse(all.isSharded());
+        assertTrue(all.ownsTest("a.Any", "any"));
+    }
+}
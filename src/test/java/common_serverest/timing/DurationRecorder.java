@@ -0,0 +1,52 @@
+package common_serverest.timing;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+
+/**
+ * Feeds the {@link DurationStore} with the time of every JUnit test class and method, from any
+ * engine. Registered in {@code META-INF/services/org.junit.platform.launcher.TestExecutionListener}.
+ */
+public class DurationRecorder implements TestExecutionListener {
+
+    private final Map<String, Long> started = new ConcurrentHashMap<>();
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (key(testIdentifier) != null) {
+            started.put(testIdentifier.getUniqueId(), System.nanoTime());
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        Long start = started.remove(testIdentifier.getUniqueId());
+        String key = key(testIdentifier);
+        if (start != null && key != null) {
+            DurationStore.shared().record(key, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Class containers and test methods; parameterized and repeated invocations share their
+     * method's key and add up.
+     */
+    private static String key(TestIdentifier identifier) {
+        TestSource source = identifier.getSource().orElse(null);
+        if (identifier.isContainer() && source instanceof ClassSource classSource) {
+            return DurationStore.junitClass(classSource.getClassName());
+        }
+        if (identifier.isTest() && source instanceof MethodSource methodSource) {
+            return DurationStore.junitMethod(methodSource.getClassName(), methodSource.getMethodName());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,163 @@
+package common_serverest.timing;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Durations of Karate features/scenarios and JUnit classes/methods from previous runs, used to
+ * start the longest work first and to balance shards.
+ *
+ * Keys look like {@code karate:karate_serverest.carrinhos.Carts} (package-qualified feature),
+ * {@code karate:karate_serverest.carrinhos.Carts::<scenario name>},
+ * {@code junit:restassured_serverest.usuarios.UsersRestAssuredTest} and
+ * {@code junit:<class>#<method>}; values are milliseconds.
+ *
+ * The file is {@code durations.properties} under {@code -Dserverest.timings.dir} (default
+ * {@code target/timings}; point it at a CI cache directory to keep history across clean
+ * builds). Times observed in this JVM are folded in at exit as a moving average
+ * (half old, half new), under a file lock so parallel forks do not overwrite each other.
+ */
+public final class DurationStore {
+
+    public static final String DIR_PROPERTY = "serverest.timings.dir";
+    static final String FILE_NAME = "durations.properties";
+
+    private static final Logger logger = LoggerFactory.getLogger(DurationStore.class);
+
+    private static final class Holder {
+        private static final DurationStore INSTANCE = new DurationStore(
+                Path.of(System.getProperty(DIR_PROPERTY, "target/timings")));
+    }
+
+    private final Path directory;
+    private final Map<String, Long> history;
+    private final Map<String, LongAdder> observed = new ConcurrentHashMap<>();
+
+    DurationStore(Path directory) {
+        this.directory = directory;
+        this.history = read(directory.resolve(FILE_NAME));
+        Runtime.getRuntime().addShutdownHook(new Thread(this::save, "serverest-timings-save"));
+    }
+
+    public static DurationStore shared() {
+        return Holder.INSTANCE;
+    }
+
+    public static String karateFeature(String qualifiedName) {
+        return "karate:" + qualifiedName;
+    }
+
+    public static String karateScenario(String qualifiedName, String scenarioName) {
+        return "karate:" + qualifiedName + "::" + scenarioName;
+    }
+
+    public static String junitClass(String className) {
+        return "junit:" + className;
+    }
+
+    public static String junitMethod(String className, String methodName) {
+        return "junit:" + className + "#" + methodName;
+    }
+
+    /**
+     * Duration recorded by earlier runs, or -1 when the key was never seen.
+     */
+    public long expected(String key) {
+        return history.getOrDefault(key, -1L);
+    }
+
+    /**
+     * Expected duration with unknown keys ranked first: new work has no history and is
+     * better started early than found at the tail.
+     */
+    public long expectedOrMax(String key) {
+        long expected = expected(key);
+        return expected < 0 ? Long.MAX_VALUE : expected;
+    }
+
+    /**
+     * Adds to this run's time for the key (repeated keys, e.g. parameterized invocations, add up).
+     */
+    public void record(String key, long millis) {
+        observed.computeIfAbsent(key, k -> new LongAdder()).add(millis);
+    }
+
+    public Map<String, Long> history() {
+        return Map.copyOf(history);
+    }
+
+    /**
+     * Reads a durations file without attaching a store to it: nothing is recorded or saved.
+     */
+    public static Map<String, Long> load(Path file) {
+        return Map.copyOf(read(file));
+    }
+
+    void save() {
+        if (observed.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            try (FileChannel lockFile = FileChannel.open(directory.resolve(FILE_NAME + ".lock"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = lockFile.lock();
+                try {
+                    Path file = directory.resolve(FILE_NAME);
+                    // another fork may have saved since this one started
+                    Map<String, Long> merged = new TreeMap<>(read(file));
+                    observed.forEach((key, millis) -> merged.merge(key, millis.sum(), (old, now) -> (old + now) / 2));
+                    Properties properties = new Properties();
+                    merged.forEach((key, millis) -> properties.setProperty(key, Long.toString(millis)));
+                    Path temporary = directory.resolve(FILE_NAME + ".tmp");
+                    try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                        properties.store(writer, "durations in ms, see common_serverest.timing.DurationStore");
+                    }
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("could not save test durations to {}", directory, e);
+        }
+    }
+
+    private static Map<String, Long> read(Path file) {
+        Map<String, Long> durations = new ConcurrentHashMap<>();
+        if (!Files.isRegularFile(file)) {
+            return durations;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            logger.warn("could not read test durations from {}", file, e);
+            return durations;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            try {
+                durations.put(key, Long.parseLong(properties.getProperty(key).trim()));
+            } catch (NumberFormatException e) {
+                // ignore hand-edited garbage
+            }
+        }
+        return durations;
+    }
+}
@@ -0,0 +1,25 @@
+package common_serverest.timing;
+
+import java.util.Comparator;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+/**
+ * Orders test classes by their recorded duration, longest first (classes without history
+ * first of all), so a slow class does not start last and become the tail of a parallel run.
+ *
+ * {@code junit.jupiter.testclass.order.default=common_serverest.timing.LongestFirstClassOrderer}
+ */
+public class LongestFirstClassOrderer implements ClassOrderer {
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        DurationStore store = DurationStore.shared();
+        context.getClassDescriptors().sort(Comparator.comparingLong(
+                (ClassDescriptor descriptor) -> store.expectedOrMax(
+                        DurationStore.junitClass(descriptor.getTestClass().getName())))
+                .reversed());
+    }
+}
@@ -0,0 +1,37 @@
+package common_serverest.timing;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+/**
+ * Orders the methods of a concurrent test class by their recorded duration, longest first
+ * (methods without history first of all).
+ *
+ * {@code junit.jupiter.testmethod.order.default=common_serverest.timing.LongestFirstMethodOrderer}
+ */
+public class LongestFirstMethodOrderer implements MethodOrderer {
+
+    @Override
+    public void orderMethods(MethodOrdererContext context) {
+        DurationStore store = DurationStore.shared();
+        String className = context.getTestClass().getName();
+        context.getMethodDescriptors().sort(Comparator.comparingLong(
+                (MethodDescriptor descriptor) -> store.expectedOrMax(
+                        DurationStore.junitMethod(className, descriptor.getMethod().getName())))
+                .reversed());
+    }
+
+    /**
+     * Leaves the execution mode alone; the interface default ({@code SAME_THREAD}) would
+     * serialize the methods of every class this orderer is applied to.
+     */
+    @Override
+    public Optional<ExecutionMode> getDefaultExecutionMode() {
+        return Optional.empty();
+    }
+}
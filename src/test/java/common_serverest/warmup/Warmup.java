@@ -0,0 +1,167 @@
+package common_serverest.warmup;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import common_serverest.ServeRestEnvironment;
+import common_serverest.auth.TokenProvider;
+import common_serverest.auth.TokenProvider.Role;
+import common_serverest.http.ServeRestClient;
+
+/**
+ * Pre-flight phase that pays DNS, TCP and TLS handshake costs (and starts the local stand-in
+ * server) before the first test, so they stop landing in the Karate and Allure durations of
+ * whatever test happens to run first.
+ *
+ * Runs once per JVM, from {@link WarmupSessionListener} when the JUnit Platform launcher opens
+ * its session, and from the Karate runners that start {@code Runner.parallel} themselves.
+ * Steps: resolve the host, open {@link ServeRestEnvironment#parallelism()} connections on the
+ * shared {@link ServeRestClient}, log in the cached admin/user tokens, then every
+ * {@link WarmupStep} found with {@link ServiceLoader} (one per client stack). A failing step is
+ * logged and skipped; the tests then simply run cold.
+ *
+ * The timings are logged and written to {@code target/warmup/warmup-<fork>.properties}, apart
+ * from the test results. {@code -Dserverest.warmup=false} turns the phase off.
+ */
+public final class Warmup {
+
+    /** Cheap request used to open connections: an email filter that matches nobody. */
+    public static final String PATH = "/usuarios?email=warmup@serverest.dev";
+
+    static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty("serverest.warmup", "true"));
+    static final String REPORT_DIR = System.getProperty("serverest.warmup.dir", "target/warmup");
+
+    private static final Logger logger = LoggerFactory.getLogger(Warmup.class);
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static volatile Report report;
+
+    /**
+     * Duration of one step, with what it did or why it failed.
+     */
+    public record Timing(String step, long millis, String detail) {
+
+        @Override
+        public String toString() {
+            return step + " " + millis + " ms (" + detail + ")";
+        }
+    }
+
+    public record Report(String baseUrl, List<Timing> timings, long totalMillis) {
+
+        @Override
+        public String toString() {
+            return String.join(", ", timings.stream().map(Timing::toString).toList())
+                    + "; total " + totalMillis + " ms";
+        }
+    }
+
+    private Warmup() {
+    }
+
+    /**
+     * Runs the warm-up unless it already ran in this JVM; later callers get the first report.
+     */
+    public static Report ensure() {
+        Report done = report;
+        if (done != null) {
+            return done;
+        }
+        LOCK.lock();
+        try {
+            if (report == null) {
+                report = ENABLED ? run() : new Report(ServeRestEnvironment.baseUrl(), List.of(), 0);
+            }
+            return report;
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    private static Report run() {
+        long start = System.nanoTime();
+        List<Timing> timings = new ArrayList<>();
+        int connections = ServeRestEnvironment.parallelism();
+
+        // resolving the URL starts the in-process stand-in with -Dkarate.env=local
+        String baseUrl = time(timings, "server", ServeRestEnvironment::baseUrl);
+        if (baseUrl == null) {
+            return finish(new Report("unknown", timings, elapsed(start)));
+        }
+        time(timings, "dns", () -> {
+            String host = URI.create(baseUrl).getHost();
+            return host + " -> " + InetAddress.getAllByName(host).length + " address(es)";
+        });
+        time(timings, "java.net.http", () -> {
+            ServeRestClient client = ServeRestClient.shared();
+            List<CompletableFuture<ServeRestClient.Reply>> replies = new ArrayList<>();
+            for (int i = 0; i < connections; i++) {
+                replies.add(client.getAsync(PATH));
+            }
+            CompletableFuture.allOf(replies.toArray(CompletableFuture[]::new)).join();
+            return connections + " requests, " + client.version();
+        });
+        time(timings, "tokens", () -> {
+            TokenProvider.shared().token(Role.ADMIN);
+            TokenProvider.shared().token(Role.USER);
+            return "admin + user";
+        });
+        for (WarmupStep step : ServiceLoader.load(WarmupStep.class)) {
+            time(timings, step.name(), () -> step.run(baseUrl, connections));
+        }
+        return finish(new Report(baseUrl, List.copyOf(timings), elapsed(start)));
+    }
+
+    private interface Action {
+        String run() throws Exception;
+    }
+
+    private static String time(List<Timing> timings, String step, Action action) {
+        long start = System.nanoTime();
+        try {
+            String detail = action.run();
+            timings.add(new Timing(step, elapsed(start), detail));
+            return detail;
+        } catch (Exception e) {
+            timings.add(new Timing(step, elapsed(start), "failed: " + e));
+            logger.warn("warm-up step {} failed, tests will run cold", step, e);
+            return null;
+        }
+    }
+
+    private static Report finish(Report done) {
+        logger.info("warm-up against {}: {}", done.baseUrl(), done);
+        StringBuilder properties = new StringBuilder();
+        properties.append("baseUrl=").append(done.baseUrl()).append(System.lineSeparator());
+        for (Timing timing : done.timings()) {
+            properties.append(timing.step()).append(".ms=").append(timing.millis()).append(System.lineSeparator());
+        }
+        properties.append("total.ms=").append(done.totalMillis()).append(System.lineSeparator());
+        String fork = System.getProperty("serverest.fork", String.valueOf(ProcessHandle.current().pid()));
+        try {
+            Path directory = Path.of(REPORT_DIR);
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve("warmup-" + fork + ".properties"), properties,
+                    StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("could not write the warm-up report to {}", REPORT_DIR, e);
+        }
+        return done;
+    }
+
+    private static long elapsed(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
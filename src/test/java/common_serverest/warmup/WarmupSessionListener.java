@@ -0,0 +1,17 @@
+package common_serverest.warmup;
+
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+/**
+ * Runs the {@link Warmup} phase when the JUnit Platform launcher opens its session, before any
+ * test class is discovered or executed. Registered in
+ * {@code META-INF/services/org.junit.platform.launcher.LauncherSessionListener}.
+ */
+public class WarmupSessionListener implements LauncherSessionListener {
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        Warmup.ensure();
+    }
+}
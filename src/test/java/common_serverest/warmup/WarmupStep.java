@@ -0,0 +1,19 @@
+package common_serverest.warmup;
+
+/**
+ * A client stack's share of the {@link Warmup} phase, registered in
+ * {@code META-INF/services/common_serverest.warmup.WarmupStep}.
+ */
+public interface WarmupStep {
+
+    /**
+     * Short name used in the warm-up report, e.g. {@code restassured}.
+     */
+    String name();
+
+    /**
+     * Opens up to {@code connections} pooled connections to {@code baseUrl} by sending
+     * {@link Warmup#PATH} concurrently, and returns a short description of what was done.
+     */
+    String run(String baseUrl, int connections) throws Exception;
+}
@@ -10,7 +10,40 @@ function fn() {
     config.baseUrl = 'http://localhost:3000';
   } else if (env === 'prod') {
     config.baseUrl = 'https://serverest.dev';
+  } else if (env === 'local') {
+    // ServeRest em memória, iniciado uma única vez por JVM (sem rede)
+    var ServeRestEnvironment = Java.type('common_serverest.ServeRestEnvironment');
+    config.baseUrl = ServeRestEnvironment.baseUrl(env);
   }
+
+  // Massa reproduzível: -Dserverest.seed=<número> ou defina dataSeed aqui.
+  // Com semente, cada cenário gera os mesmos dados em toda execução (a semente vai para o relatório).
+  var dataSeed = null;
+  var TestDataGenerator = Java.type('common_serverest.data.TestDataGenerator');
+  if (dataSeed != null) TestDataGenerator.useSeed(dataSeed);
+  if (TestDataGenerator.seed() != null) {
+    // identidade estável do cenário: feature, linha e linha do Examples (não a ordem de execução)
+    var scenario = karate.scenario;
+    var exampleIndex = scenario.exampleIndex == null ? -1 : scenario.exampleIndex;
+    TestDataGenerator.beginTest(karate.info.featureFileName + ':' + scenario.line + ':' + exampleIndex);
+    karate.log('test data seed:', TestDataGenerator.seed(), 'run id:', TestDataGenerator.runId());
+  }
+
+  // Formatos de campo (email, id, personName, adminFlag, price, stock) compilados uma única vez,
+  // com contagem e tempo por formato no log ao final. Uso: match response.email == '#? isFormat("email", _)'
+  var FieldFormats = Java.type('common_serverest.assertions.FieldFormats');
+  config.isFormat = function(name, value) { return FieldFormats.test(name, value); };
+
+  // Token compartilhado: login único por execução (ou por thread com
+  // -Dserverest.auth.scope=thread), renovado antes de expirar.
+  // Uso nas features: * def token = sharedToken()  |  forçar novo login: sharedToken(true)
+  config.sharedToken = function(forceRefresh) {
+    var AuthFixture = Java.type('karate_serverest.utils.AuthFixture');
+    if (forceRefresh) AuthFixture.expire();
+    var scope = karate.properties['serverest.auth.scope'] || 'run';
+    var feature = 'classpath:karate_serverest/login/auth-token.feature?' + AuthFixture.cacheKey(scope);
+    return karate.callSingle(feature, { baseUrl: karate.get('baseUrl') }).token;
+  };
   
   return config;
 }
\ No newline at end of file
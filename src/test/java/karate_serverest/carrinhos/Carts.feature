@@ -1,68 +1,22 @@
 # language: en
-@carts
+# CT02, CT04, CT06-CT08 share the sharedToken() user, and ServeRest allows one cart per user
+@carts @parallel=false
 Feature: Cart Management - ServeRest API
 
   Background:
-    * url 'https://serverest.dev'
-    * def FakerUtils = Java.type('serverest.utils.FakerUtils')
+    * url baseUrl
+    * def FakerUtils = Java.type('karate_serverest.utils.FakerUtils')
     * def randomProductName = function(){ return FakerUtils.randomProduct() }
-    * def loginPayload = read('classpath:serverest/login/resources/loginPayload.json')
-    * def email = function(){ return FakerUtils.randomEmail() }
 
   @carts @regression @ct001
   Scenario: CT01 - Full cart lifecycle for authenticated user
-    # Create a dedicated user for this cart scenario
-    * def userEmail = email()
-    * def userPassword = 'SenhaSegura@123'
-    * def newUser =
-      """
-      {
-        "nome": "Cart User",
-        "email": "#(userEmail)",
-        "password": "#(userPassword)",
-        "administrador": "true"
-      }
-      """
-
-    Given path '/usuarios'
-    And request newUser
-    When method POST
-    Then status 201
-
-    # Update login payload to use the created user's credentials
-    * set loginPayload.email = userEmail
-    * set loginPayload.password = userPassword
-
-    Given path '/login'
-    And request loginPayload
-    When method POST
-    Then status 200
-    * def token = response.authorization
-
-    Given path '/carrinhos/cancelar-compra'
-    And header Authorization = token
-    When method DELETE
-    Then status 200
-
-    # Create a product to be used in the cart
-    * def productName = randomProductName()
-    * def productData =
-      """
-      {
-        "nome": "#(productName)",
-        "preco": 150,
-        "descricao": "Product created for cart lifecycle test",
-        "quantidade": 10
-      }
-      """
-
-    Given path '/produtos'
-    And header Authorization = token
-    And request productData
-    When method POST
-    Then status 201
-    And match response.message == 'Cadastro realizado com sucesso'
-    * def productId = response._id
+    # Lease a fresh user (no cart, logged in) plus an in-stock product from the shared pool
+    * def FixturePool = Java.type('common_serverest.fixtures.FixturePool')
+    * def fixture = FixturePool.shared().lease()
+    # Give the fixture back to the pool even when a step below fails
+    * configure afterScenario = function(){ fixture.close() }
+    * def token = fixture.token()
+    * def productId = fixture.productId()
 
     # Create a cart for the logged user
     * def cartBody =
@@ -110,11 +64,7 @@ Feature: Cart Management - ServeRest API
 
   @carts @regression
   Scenario: CT02 - Cancel purchase and return products to stock
-    Given path '/login'
-    And request loginPayload
-    When method POST
-    Then status 200
-    * def token = response.authorization
+    * def token = sharedToken()
     
     # Ensure there is no existing cart for this user
     Given path '/carrinhos/cancelar-compra'
@@ -191,12 +141,7 @@ Feature: Cart Management - ServeRest API
 
   @carts @regression
   Scenario: CT04 - Prevent creating more than one cart for the same user
-    * def loginPayload = read('classpath:serverest/login/resources/loginPayload.json')
-    Given path '/login'
-    And request loginPayload
-    When method POST
-    Then status 200
-    * def token = response.authorization
+    * def token = sharedToken()
 
     # Ensure there is no existing cart for this user before creating the first cart
     Given path '/carrinhos/cancelar-compra'
@@ -260,12 +205,7 @@ Feature: Cart Management - ServeRest API
 
   @carts @regression
   Scenario: CT06 - Prevent cart creation when product stock is insufficient
-    * def loginPayload = read('classpath:serverest/login/resources/loginPayload.json')
-    Given path '/login'
-    And request loginPayload
-    When method POST
-    Then status 200
-    * def token = response.authorization
+    * def token = sharedToken()
 
     Given path '/carrinhos/cancelar-compra'
     And header Authorization = token
@@ -314,12 +254,7 @@ Feature: Cart Management - ServeRest API
 
   @carts @regression
   Scenario: CT07 - Prevent cart creation with duplicated products in the same cart
-    * def loginPayload = read('classpath:serverest/login/resources/loginPayload.json')
-    Given path '/login'
-    And request loginPayload
-    When method POST
-    Then status 200
-    * def token = response.authorization
+    * def token = sharedToken()
 
     Given path '/carrinhos/cancelar-compra'
     And header Authorization = token
@@ -372,12 +307,7 @@ Feature: Cart Management - ServeRest API
 
   @carts @regression
   Scenario: CT08 - Prevent cart creation with non-existing product
-    * def loginPayload = read('classpath:serverest/login/resources/loginPayload.json')
-    Given path '/login'
-    And request loginPayload
-    When method POST
-    Then status 200
-    * def token = response.authorization
+    * def token = sharedToken()
 
     Given path '/carrinhos/cancelar-compra'
     And header Authorization = token
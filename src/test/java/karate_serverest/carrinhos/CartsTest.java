@@ -2,11 +2,14 @@ package karate_serverest.carrinhos;
 
 import com.intuit.karate.junit5.Karate;
 
+import karate_serverest.utils.AdaptiveLimitFactory;
+
 public class CartsTest {
 
     @Karate.Test
     Karate testCartsRegression() {
         return Karate.run("Carts")
+                .clientFactory(AdaptiveLimitFactory.SHARED)
                 .tags("@carts")
                 .relativeTo(getClass());
     }
@@ -2,16 +2,19 @@ package karate_serverest.login;
 
 import com.intuit.karate.junit5.Karate;
 
+import karate_serverest.utils.AdaptiveLimitFactory;
+
 public class LoginTest {
 
     @Karate.Test
     Karate testLogin() {
-        return Karate.run("Login").relativeTo(getClass());
+        return Karate.run("Login").clientFactory(AdaptiveLimitFactory.SHARED).relativeTo(getClass());
     }
 
     @Karate.Test
     Karate testLoginSmoke() {
         return Karate.run("Login")
+                .clientFactory(AdaptiveLimitFactory.SHARED)
                 .tags("@login")
                 .relativeTo(getClass());
     }
@@ -0,0 +1,15 @@
+# language: en
+@ignore
+Feature: Shared authentication fixture
+
+  # Called through sharedToken() in karate-config.js with karate.callSingle:
+  # one login per run (or per thread), shared by every feature.
+
+  Scenario: Login with the default payload and expose the bearer token
+    * def credentials = read('classpath:karate_serverest/login/resources/loginPayload.json')
+    Given url baseUrl
+    And path '/login'
+    And request credentials
+    When method POST
+    Then status 200
+    * def token = response.authorization
@@ -3,8 +3,8 @@
 Feature: User Authentication - Login
 
   Background:
-    * url 'https://serverest.dev'
-    * def FakerUtils = Java.type('serverest.utils.FakerUtils')
+    * url baseUrl
+    * def FakerUtils = Java.type('karate_serverest.utils.FakerUtils')
     * def randomProductName = function(){ return FakerUtils.randomProduct() }
     * def loginPayload = read('resources/loginPayload.json')
     * def randomEmail = function(){ return FakerUtils.randomEmail() }
@@ -83,7 +83,7 @@ Feature: User Authentication - Login
 
   @regression
   Scenario: CT04 - Login and use token to access a protected resource
-    * def adminEmail = 'admin.' + new Date().getTime() + '@example.com'
+    * def adminEmail = 'admin.' + FakerUtils.uniqueToken() + '@example.com'
     * def adminPassword = 'SenhaSegura@123'
     * def adminUser =
       """
@@ -3,14 +3,11 @@
 Feature: Product Management (Requires Admin Authentication)
 
   Background:
-    * url 'https://serverest.dev'
-    * def loginPayload = read('classpath:serverest/login/resources/loginPayload.json')
-    Given path '/login'
-    And request loginPayload
-    When method POST
-    Then status 200
-    * def token = response.authorization
-    * def randomName = function(){ return 'Product ' + new Date().getTime() }
+    * url baseUrl
+    # Login único compartilhado (karate.callSingle via karate-config.js)
+    * def token = sharedToken()
+    * def FakerUtils = Java.type('karate_serverest.utils.FakerUtils')
+    * def randomName = function(){ return 'Product ' + FakerUtils.uniqueToken() }
 
   @list-products @smoke @regression
   Scenario: CT01 - List all products and validate JSON structure
@@ -26,20 +23,9 @@ Feature: Product Management (Requires Admin Authentication)
       }
       """
     
-    And match each response.produtos ==
-        """
-        {
-          nome: '#string',
-          preco: '#number',
-          descricao: '#string',
-          quantidade: '#number',
-          _id: '#string'
-        }
-        """
-    
-    And match each response.produtos contains { preco: '#number? _ > 0' }
-    
-    And match each response.produtos contains { quantidade: '#number? _ >= 0' }
+    * def StreamingListValidator = Java.type('common_serverest.json.StreamingListValidator')
+    * def productsCheck = StreamingListValidator.products().validate(responseBytes).toMap()
+    And match productsCheck.violations == []
 
 
   @create-product @smoke @regression
@@ -81,7 +67,7 @@ Feature: Product Management (Requires Admin Authentication)
 
   @duplicate-product @regression
   Scenario: CT03 - Validate error when creating a product with a duplicate name
-    * def duplicateName = 'Duplicate Product Test ' + new Date().getTime()
+    * def duplicateName = 'Duplicate Product Test ' + FakerUtils.uniqueToken()
     * def product =
       """
       {
@@ -192,7 +178,7 @@ Feature: Product Management (Requires Admin Authentication)
     * def avgPrice = sumPrices / prices.length
     * print 'Average Price:', avgPrice
     
-    And match each products contains { preco: '#number? _ > 0 && _ < 100000' }
+    And match each products contains { preco: '#? isFormat("price", _)' }
 
 
   @unauthorized @regression
@@ -339,7 +325,7 @@ Feature: Product Management (Requires Admin Authentication)
     * def productId = response._id
 
     # Create a non-admin user and login to create a cart
-    * def userEmail = 'cart.user.' + new Date().getTime() + '@example.com'
+    * def userEmail = 'cart.user.' + FakerUtils.uniqueToken() + '@example.com'
     * def userPassword = 'SenhaSegura@123'
     * def userData =
       """
@@ -406,7 +392,7 @@ Feature: Product Management (Requires Admin Authentication)
   @admin-only-route @regression
   Scenario: CT13 - Restrict product creation to administrators only
     # Create a non-admin user
-    * def userEmail = 'non.admin.' + new Date().getTime() + '@example.com'
+    * def userEmail = 'non.admin.' + FakerUtils.uniqueToken() + '@example.com'
     * def userPassword = 'SenhaSegura@123'
     * def userData =
       """
@@ -2,16 +2,19 @@ package karate_serverest.produtos;
 
 import com.intuit.karate.junit5.Karate;
 
+import karate_serverest.utils.AdaptiveLimitFactory;
+
 public class ProductsTest {
 
     @Karate.Test
     Karate testProdutos() {
-        return Karate.run("Products").relativeTo(getClass());
+        return Karate.run("Products").clientFactory(AdaptiveLimitFactory.SHARED).relativeTo(getClass());
     }
 
     @Karate.Test
     Karate testSmoke() {
         return Karate.run("Products")
+                .clientFactory(AdaptiveLimitFactory.SHARED)
                 .tags("@products")
                 .relativeTo(getClass());
     }
@@ -7,6 +7,11 @@ import com.intuit.karate.Results;
 import com.intuit.karate.Runner;
 import com.intuit.karate.junit5.Karate;
 
+import common_serverest.shard.RunsOnEveryShard;
+import common_serverest.warmup.Warmup;
+import karate_serverest.utils.AdaptiveLimitFactory;
+import karate_serverest.utils.VirtualThreadRunner;
+
 /**
  * JUnit 5 test class to run User tests
  *
@@ -22,7 +27,7 @@ public class UsersTest {
      */
     @Karate.Test
     Karate testUsers() {
-        return Karate.run("Users").relativeTo(getClass());
+        return Karate.run("Users").clientFactory(AdaptiveLimitFactory.SHARED).relativeTo(getClass());
     }
 
     /**
@@ -31,6 +36,7 @@ public class UsersTest {
     @Karate.Test
     Karate testSmoke() {
         return Karate.run("Users")
+                .clientFactory(AdaptiveLimitFactory.SHARED)
                 .tags("@smoke")
                 .relativeTo(getClass());
     }
@@ -41,19 +47,22 @@ public class UsersTest {
     @Karate.Test
     Karate testValidations() {
         return Karate.run("Users")
+                .clientFactory(AdaptiveLimitFactory.SHARED)
                 .tags("@update-duplicate-email")
                 .relativeTo(getClass());
     }
 
     /**
-     * Executes in parallel with X threads
+     * Executes in parallel with X threads (virtual threads with -Dserverest.karate.virtual=true)
      * Note: Karate report show wrong execution time when run in parallel, so use with caution for performance metrics
      */
+    @RunsOnEveryShard
     @Test
     void testParallel() {
-        Results results = Runner.path("classpath:serverest/usuarios/Users.feature")
-                .tags("~@ignore")
-                .parallel(1);
+        Warmup.ensure();
+        Runner.Builder<?> runner = Runner.path("classpath:karate_serverest/usuarios/Users.feature")
+                .tags("~@ignore");
+        Results results = VirtualThreadRunner.parallel(runner, 1);
         assertEquals(0, results.getFailCount(), results.getErrorMessages());
     }
 }
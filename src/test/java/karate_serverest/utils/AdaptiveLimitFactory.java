@@ -0,0 +1,59 @@
+package karate_serverest.utils;
+
+import com.intuit.karate.core.Config;
+import com.intuit.karate.core.ScenarioEngine;
+import com.intuit.karate.http.HttpClient;
+import com.intuit.karate.http.HttpClientFactory;
+import com.intuit.karate.http.HttpRequest;
+import com.intuit.karate.http.Response;
+
+import common_serverest.http.AdaptiveLimit;
+
+/**
+ * Karate client factory that sends every request through the JVM-wide {@link AdaptiveLimit},
+ * so Karate scenarios share one in-flight limit with the RestAssured and Playwright tests and
+ * their 429/5xx responses and latency steer it. Set on the runner builders:
+ *
+ * <pre>{@code
+ * Karate.run("Users").clientFactory(AdaptiveLimitFactory.SHARED).relativeTo(getClass());
+ * }</pre>
+ *
+ * {@link VirtualThreadRunner} installs it by itself.
+ */
+public final class AdaptiveLimitFactory implements HttpClientFactory {
+
+    /** Wraps Karate's default Apache client. */
+    public static final AdaptiveLimitFactory SHARED = new AdaptiveLimitFactory(HttpClientFactory.DEFAULT);
+
+    private final HttpClientFactory delegate;
+
+    public AdaptiveLimitFactory(HttpClientFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public HttpClient create(ScenarioEngine engine) {
+        HttpClient client = delegate.create(engine);
+        return new HttpClient() {
+
+            @Override
+            public void setConfig(Config config) {
+                client.setConfig(config);
+            }
+
+            @Override
+            public Config getConfig() {
+                return client.getConfig();
+            }
+
+            @Override
+            public Response invoke(HttpRequest request) {
+                try (AdaptiveLimit.Permit permit = AdaptiveLimit.shared().acquire()) {
+                    Response response = client.invoke(request);
+                    permit.complete(response.getStatus());
+                    return response;
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package karate_serverest.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache keys for the run-once login fixture called from karate-config.js.
+ *
+ * karate.callSingle() caches by path, so the key appended to the feature path decides
+ * how often the login really happens:
+ * - scope "run" (default): once per JVM;
+ * - scope "thread": once per runner thread;
+ * - the time window rolls before ServeRest's 600s token expiry;
+ * - {@link #expire()} bumps a generation so the next call logs in again.
+ */
+public final class AuthFixture {
+
+    public static final long REFRESH_WINDOW_MILLIS = 540_000L;
+
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    private AuthFixture() {
+    }
+
+    public static String cacheKey(String scope) {
+        long window = System.currentTimeMillis() / REFRESH_WINDOW_MILLIS;
+        String key = "scope=" + scope + "&window=" + window + "&generation=" + GENERATION.get();
+        if ("thread".equals(scope)) {
+            key += "&thread=" + Thread.currentThread().getName();
+        }
+        return key;
+    }
+
+    /**
+     * Forces the next authToken() call, in any thread, to log in again.
+     */
+    public static void expire() {
+        GENERATION.incrementAndGet();
+    }
+}
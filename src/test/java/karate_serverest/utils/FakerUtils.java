@@ -1,28 +1,30 @@
 package karate_serverest.utils;
 
-import com.github.javafaker.Faker;
+import common_serverest.data.TestDataGenerator;
 
 /**
  * Utility class to provide random test data using Java Faker.
+ * Emails and product names are unique per run, see {@link TestDataGenerator}.
  */
 public class FakerUtils {
 
-    private static final Faker FAKER = new Faker();
-
     public static String randomName() {
-        return FAKER.name().fullName();
+        return TestDataGenerator.name();
     }
 
     public static String randomProduct() {
-        return FAKER.commerce().productName();
+        return TestDataGenerator.product();
     }
 
     public static String randomEmail() {
-        return "" + FAKER.name().firstName().toLowerCase() + "@gmail.com";
+        return TestDataGenerator.email();
     }
 
     public static String randomPassword() {
-        // minLength 8, maxLength 16 for reasonably strong test passwords
-        return FAKER.internet().password(8, 16);
+        return TestDataGenerator.password();
+    }
+
+    public static String uniqueToken() {
+        return TestDataGenerator.uniqueToken();
     }
 }
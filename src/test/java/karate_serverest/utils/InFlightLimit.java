@@ -0,0 +1,57 @@
+package karate_serverest.utils;
+
+import java.util.concurrent.Semaphore;
+
+import com.intuit.karate.core.Config;
+import com.intuit.karate.core.ScenarioEngine;
+import com.intuit.karate.http.HttpClient;
+import com.intuit.karate.http.HttpClientFactory;
+import com.intuit.karate.http.HttpRequest;
+import com.intuit.karate.http.Response;
+
+/**
+ * Karate client factory that caps the HTTP requests in flight across all scenarios of a run,
+ * wrapping Karate's default Apache client. Scenarios waiting for a permit block on a
+ * {@link Semaphore}, which unmounts virtual threads instead of pinning them.
+ */
+public final class InFlightLimit implements HttpClientFactory {
+
+    private final Semaphore permits;
+    private final HttpClientFactory delegate;
+
+    public InFlightLimit(int maxInFlight) {
+        this(maxInFlight, HttpClientFactory.DEFAULT);
+    }
+
+    public InFlightLimit(int maxInFlight, HttpClientFactory delegate) {
+        this.permits = new Semaphore(maxInFlight);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public HttpClient create(ScenarioEngine engine) {
+        HttpClient client = delegate.create(engine);
+        return new HttpClient() {
+
+            @Override
+            public void setConfig(Config config) {
+                client.setConfig(config);
+            }
+
+            @Override
+            public Config getConfig() {
+                return client.getConfig();
+            }
+
+            @Override
+            public Response invoke(HttpRequest request) {
+                permits.acquireUninterruptibly();
+                try {
+                    return client.invoke(request);
+                } finally {
+                    permits.release();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package karate_serverest.utils;
+
+import java.util.Comparator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.intuit.karate.Suite;
+import com.intuit.karate.core.FeatureCall;
+import com.intuit.karate.core.ScenarioResult;
+
+import common_serverest.timing.DurationStore;
+
+/**
+ * Longest-processing-time-first order for Karate suites: features are handed to the runner
+ * threads slowest first, by the durations of earlier runs kept in {@link DurationStore}, and
+ * this run's feature and scenario times are recorded for the next one.
+ */
+final class LongestFirstFeatures {
+
+    private static final Logger logger = LoggerFactory.getLogger(LongestFirstFeatures.class);
+
+    private LongestFirstFeatures() {
+    }
+
+    static void order(Suite suite) {
+        DurationStore store = DurationStore.shared();
+        try {
+            suite.features.sort(Comparator.comparingLong((FeatureCall call) -> store.expectedOrMax(
+                    DurationStore.karateFeature(call.feature.getPackageQualifiedName()))).reversed());
+        } catch (UnsupportedOperationException e) {
+            logger.debug("karate: feature list is read-only, keeping discovery order");
+        }
+    }
+
+    static void record(Suite suite) {
+        DurationStore store = DurationStore.shared();
+        suite.getFeatureResults().forEach(feature -> {
+            String name = feature.getFeature().getPackageQualifiedName();
+            store.record(DurationStore.karateFeature(name), Math.round(feature.getDurationMillis()));
+            for (ScenarioResult scenario : feature.getScenarioResults()) {
+                store.record(DurationStore.karateScenario(name, scenario.getScenario().getName()),
+                        Math.round(scenario.getDurationMillis()));
+            }
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package karate_serverest.utils;
+
+import com.intuit.karate.RuntimeHook;
+import com.intuit.karate.core.FeatureRuntime;
+import com.intuit.karate.core.ScenarioRuntime;
+
+import common_serverest.shard.Shard;
+
+/**
+ * Skips the features and scenarios of other shards ({@code -Dshard=<index>/<count>}). Only
+ * top-level runs are filtered: features and scenarios reached through {@code call} always run.
+ */
+final class ShardHook implements RuntimeHook {
+
+    private final Shard shard;
+
+    ShardHook(Shard shard) {
+        this.shard = shard;
+    }
+
+    @Override
+    public boolean beforeFeature(FeatureRuntime fr) {
+        return !fr.caller.isNone() || shard.ownsFeature(fr.featureCall.feature.getPackageQualifiedName());
+    }
+
+    @Override
+    public boolean beforeScenario(ScenarioRuntime sr) {
+        return !sr.caller.isNone()
+                || shard.ownsScenario(sr.scenario.getFeature().getPackageQualifiedName(), sr.scenario.getName());
+    }
+}
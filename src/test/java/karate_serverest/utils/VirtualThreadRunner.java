@@ -0,0 +1,83 @@
+package karate_serverest.utils;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.intuit.karate.Results;
+import com.intuit.karate.Runner;
+import com.intuit.karate.Suite;
+
+import common_serverest.shard.Shard;
+
+/**
+ * Runs a Karate suite with every scenario on its own virtual thread, bounded by the number of
+ * HTTP requests in flight ({@link InFlightLimit}) rather than by a thread count.
+ *
+ * Enabled with {@code -Dserverest.karate.virtual=true}; the limit is
+ * {@code -Dserverest.karate.maxInFlight} (default 64). When disabled the suite runs on a fixed pool as
+ * {@code Runner.Builder.parallel(platformThreads)}; if this Karate version does not expose
+ * {@code Suite.scenarioExecutor}, it runs on a platform pool of {@code maxInFlight} threads.
+ *
+ * Karate 1.5 creates its scenario executor inside {@link Suite} with no way to supply one, so
+ * the fixed pool is swapped for a virtual-thread executor before the suite starts. Hooks,
+ * JUnit XML, Cucumber JSON and the HTML reports are still produced by the {@link Suite} itself.
+ *
+ * In both modes features start longest first by the durations of earlier runs
+ * ({@link LongestFirstFeatures}); with {@code -Dshard=<index>/<count>} only this shard's
+ * features and scenarios run ({@link ShardHook}). Requests go through the JVM-wide adaptive
+ * limit ({@link AdaptiveLimitFactory}).
+ */
+public final class VirtualThreadRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadRunner.class);
+
+    static final boolean ENABLED = Boolean.getBoolean("serverest.karate.virtual");
+    static final int MAX_IN_FLIGHT = Integer.getInteger("serverest.karate.maxInFlight", 64);
+
+    private VirtualThreadRunner() {
+    }
+
+    /**
+     * Replacement for {@code builder.parallel(platformThreads)}.
+     */
+    public static Results parallel(Runner.Builder<?> builder, int platformThreads) {
+        if (ENABLED) {
+            // threads > 1 keeps Karate in parallel mode; it is also the count shown in the reports
+            builder.clientFactory(new AdaptiveLimitFactory(new InFlightLimit(MAX_IN_FLIGHT)))
+                    .threads(Math.max(2, MAX_IN_FLIGHT));
+        } else {
+            builder.clientFactory(AdaptiveLimitFactory.SHARED).threads(platformThreads);
+        }
+        Shard shard = Shard.current();
+        if (shard.isSharded()) {
+            builder.hook(new ShardHook(shard));
+            logger.info("karate: running shard {}", shard);
+        }
+        Suite suite = new Suite(builder);
+        if (ENABLED && useVirtualThreads(suite)) {
+            logger.info("karate: scenarios on virtual threads, at most {} requests in flight", MAX_IN_FLIGHT);
+        }
+        LongestFirstFeatures.order(suite);
+        suite.run();
+        LongestFirstFeatures.record(suite);
+        return suite.buildResults();
+    }
+
+    private static boolean useVirtualThreads(Suite suite) {
+        try {
+            Field field = Suite.class.getField("scenarioExecutor");
+            field.setAccessible(true);
+            ExecutorService platform = (ExecutorService) field.get(suite);
+            field.set(suite, Executors.newVirtualThreadPerTaskExecutor());
+            platform.shutdown();
+            return true;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.warn("karate: cannot switch to virtual threads, using {} platform threads", MAX_IN_FLIGHT, e);
+            return false;
+        }
+    }
+}
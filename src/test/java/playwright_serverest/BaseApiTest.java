@@ -1,65 +1,81 @@
 package playwright_serverest;
 
-import java.util.HashMap;
 import java.util.Map;
 
-import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.microsoft.playwright.APIRequest;
 import com.microsoft.playwright.APIRequestContext;
 import com.microsoft.playwright.APIResponse;
 import com.microsoft.playwright.Playwright;
 
+import common_serverest.ServeRestEnvironment;
+import common_serverest.auth.TokenProvider;
+import common_serverest.auth.TokenProvider.Role;
+import common_serverest.data.SeededDataExtension;
+import common_serverest.junit.ClassConcurrencyLimit;
+import common_serverest.json.JsonBody;
+import common_serverest.model.Message;
+import common_serverest.model.Responses;
+import playwright_serverest.pool.PlaywrightPool;
+import playwright_serverest.pool.PlaywrightPoolExtension;
+
 /**
  * Base class for all Playwright API tests.
- * Manages Playwright and APIRequestContext lifecycle per test class.
+ * {@link #request} routes every call to a Playwright driver leased by the executing thread
+ * from the JVM-wide {@link PlaywrightPool}, so concurrent test methods never share one, and
+ * waits for a slot of the shared {@link common_serverest.http.AdaptiveLimit} before sending.
  */
 @TestInstance(Lifecycle.PER_CLASS)
+@ExtendWith({ SeededDataExtension.class, PlaywrightPoolExtension.class, ClassConcurrencyLimit.class })
 public abstract class BaseApiTest {
 
-    protected static final String BASE_URL = "https://serverest.dev";
+    protected static final String BASE_URL = ServeRestEnvironment.baseUrl();
 
-    protected Playwright playwright;
     protected APIRequestContext request;
+    private PlaywrightPool pool;
     protected final ObjectMapper objectMapper = new ObjectMapper();
 
+    /**
+     * Thread-bound context: each test thread leases its own driver, returned after the test;
+     * drivers are disposed of at the end of the run.
+     */
     @BeforeAll
-    void setupPlaywright() {
-        playwright = Playwright.create();
-        request = playwright.request().newContext(new APIRequest.NewContextOptions()
-                .setBaseURL(BASE_URL));
+    void setupPlaywright(PlaywrightPool pool) {
+        this.pool = pool;
+        request = pool.threadBoundRequest();
     }
 
-    @AfterAll
-    void teardownPlaywright() {
-        if (request != null) {
-            request.dispose();
-        }
-        if (playwright != null) {
-            playwright.close();
-        }
+    /**
+     * The Playwright driver leased by the executing thread.
+     */
+    protected Playwright playwright() {
+        return pool.currentLease().playwright();
     }
 
     /**
-     * Builds a JSON string from key-value pairs.
+     * Cached admin bearer token shared by all test classes (see {@link TokenProvider}).
      */
-    protected String buildJson(Object... keyValues) {
-        if (keyValues.length % 2 != 0) {
-            throw new IllegalArgumentException("keyValues must be pairs");
-        }
-        Map<String, Object> map = new HashMap<>();
-        for (int i = 0; i < keyValues.length; i += 2) {
-            map.put(String.valueOf(keyValues[i]), keyValues[i + 1]);
-        }
-        try {
-            return objectMapper.writeValueAsString(map);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to serialize JSON", e);
-        }
+    protected String adminToken() {
+        return TokenProvider.shared().token(Role.ADMIN);
+    }
+
+    /**
+     * Cached non-admin bearer token shared by all test classes.
+     */
+    protected String userToken() {
+        return TokenProvider.shared().token(Role.USER);
+    }
+
+    /**
+     * Builds a JSON object from key-value pairs, streamed straight to bytes for
+     * {@code RequestOptions.setData(byte[])} (see {@link JsonBody}).
+     */
+    protected byte[] buildJson(Object... keyValues) {
+        return JsonBody.of(keyValues);
     }
 
     /**
@@ -76,8 +92,20 @@ public abstract class BaseApiTest {
         }
     }
 
+    /**
+     * Decodes the body as a generic map; prefer {@link #read(APIResponse, Class)} when a
+     * typed record exists for the response.
+     */
     @SuppressWarnings("unchecked")
     public Map<String, Object> parseResponseBody(APIResponse response) throws Exception {
-        return objectMapper.readValue(response.body(), Map.class);
+        return Responses.read(response.body(), Map.class);
+    }
+
+    /**
+     * Decodes the body into a {@code common_serverest.model} record (e.g. {@link Message})
+     * through a cached, pre-built ObjectReader.
+     */
+    protected <T> T read(APIResponse response, Class<T> type) {
+        return Responses.read(response.body(), type);
     }
 }
@@ -1,5 +1,6 @@
 package playwright_serverest;
 
+import org.junit.platform.suite.api.ConfigurationParameter;
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
 import org.junit.platform.suite.api.SuiteDisplayName;
@@ -19,5 +20,17 @@ import org.junit.platform.suite.api.SuiteDisplayName;
     playwright_serverest.produtos.ProductsPlaywrightTest.class,
     playwright_serverest.carrinhos.CartsPlaywrightTest.class
 })
+
+// each concurrent test holds a Node driver from PlaywrightPool, so the cap stays lower than RestAssured's;
+// it only narrows JUnit's pool, the HTTP pools and adaptive limit keep the global cap of junit-platform.properties
+@ConfigurationParameter(key = "junit.jupiter.execution.parallel.config.strategy", value = "custom")
+@ConfigurationParameter(key = "junit.jupiter.execution.parallel.config.custom.class",
+        value = "common_serverest.junit.NetworkBoundParallelism")
+@ConfigurationParameter(key = "junit.jupiter.execution.parallel.config.network.parallelism", value = "12")
+// longest classes and methods start first, by the durations of earlier runs (DurationStore)
+@ConfigurationParameter(key = "junit.jupiter.testclass.order.default",
+        value = "common_serverest.timing.LongestFirstClassOrderer")
+@ConfigurationParameter(key = "junit.jupiter.testmethod.order.default",
+        value = "common_serverest.timing.LongestFirstMethodOrderer")
 public class ExecutionBuilderRunner {
 }
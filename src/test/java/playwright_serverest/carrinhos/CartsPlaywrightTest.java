@@ -15,102 +15,35 @@ import org.junit.jupiter.api.parallel.ExecutionMode;
 import com.microsoft.playwright.APIResponse;
 import com.microsoft.playwright.options.RequestOptions;
 
+import common_serverest.fixtures.CartSetup;
+import common_serverest.fixtures.CartSetup.CartFixture;
+import common_serverest.json.JsonBody;
+import common_serverest.model.Cart;
+import common_serverest.model.Message;
 import playwright_serverest.BaseApiTest;
-import playwright_serverest.utils.FakerUtils;
 
 @SuppressWarnings("unchecked")
 @TestInstance(Lifecycle.PER_CLASS)
 @Execution(ExecutionMode.CONCURRENT)
 public class CartsPlaywrightTest extends BaseApiTest {
 
-    private String loginWithDefaultPayload() throws Exception {
-        String userEmail = FakerUtils.randomEmail();
-        String userPassword = "SenhaSegura@123";
-
-        String newUser = String.format("""
-                {
-                  "nome": "Cart Default User",
-                  "email": "%s",
-                  "password": "%s",
-                  "administrador": "true"
-                }""", userEmail, userPassword);
-
-        request.post("/usuarios", RequestOptions.create()
-                .setHeader("Content-Type", "application/json")
-                .setData(newUser));
-
-        String loginPayload = String.format("{\"email\": \"%s\", \"password\": \"%s\"}", userEmail, userPassword);
-
-        APIResponse resp = request.post("/login", RequestOptions.create()
-                .setHeader("Content-Type", "application/json")
-                .setData(loginPayload));
-        assertEquals(200, resp.status());
-
-        Map<String, Object> loginBody = objectMapper.readValue(resp.body(), Map.class);
-        return (String) loginBody.get("authorization");
-    }
-
-    private String createAdminUserAndGetToken() throws Exception {
-        String userEmail = FakerUtils.randomEmail();
-        String userPassword = "SenhaSegura@123";
-
-        String newUser = String.format("""
-                {
-                  "nome": "Cart User",
-                  "email": "%s",
-                  "password": "%s",
-                  "administrador": "true"
-                }""", userEmail, userPassword);
-
-        request.post("/usuarios", RequestOptions.create()
-                .setHeader("Content-Type", "application/json")
-                .setData(newUser));
-
-        String loginPayload = String.format("{\"email\": \"%s\", \"password\": \"%s\"}", userEmail, userPassword);
-
-        APIResponse resp = request.post("/login", RequestOptions.create()
-                .setHeader("Content-Type", "application/json")
-                .setData(loginPayload));
-        assertEquals(200, resp.status());
-
-        Map<String, Object> loginBody = objectMapper.readValue(resp.body(), Map.class);
-        return (String) loginBody.get("authorization");
-    }
-
-    private String createProduct(String token, int price, int quantity, String description) throws Exception {
-        String productName = FakerUtils.randomProduct();
-
-        String productData = String.format("""
-                {
-                  "nome": "%s",
-                  "preco": %d,
-                  "descricao": "%s",
-                  "quantidade": %d
-                }""", productName, price, description, quantity);
-
-        APIResponse productResp = request.post("/produtos", RequestOptions.create()
-                .setHeader("Content-Type", "application/json")
-                .setHeader("Authorization", token)
-                .setData(productData));
-        assertEquals(201, productResp.status());
-
-        Map<String, Object> productBody = objectMapper.readValue(productResp.body(), Map.class);
-        assertEquals("Cadastro realizado com sucesso", productBody.get("message"));
-        return (String) productBody.get("_id");
+    // user + login + cancel cart run alongside the product creation
+    private CartFixture setup(int price, int quantity, String description) {
+        return CartSetup.create()
+                .admin(true)
+                .cancelCart()
+                .product(price, quantity, description)
+                .ready();
     }
 
     @Test
     @DisplayName("CT01 - Full cart lifecycle for authenticated user")
     void ct01_fullCartLifecycleForAuthenticatedUser() throws Exception {
-        String token = createAdminUserAndGetToken();
-
-        // Cancel any existing cart
-        request.delete("/carrinhos/cancelar-compra", RequestOptions.create()
-                .setHeader("Authorization", token));
+        CartFixture fixture = setup(150, 10, "Product created for cart lifecycle test");
+        String token = fixture.token();
+        String productId = fixture.productId();
 
-        String productId = createProduct(token, 150, 10, "Product created for cart lifecycle test");
-
-        String cartBody = String.format("{\"produtos\":[{\"idProduto\":\"%s\",\"quantidade\":2}]}", productId);
+        byte[] cartBody = JsonBody.object().produto(productId, 2).toBytes();
 
         APIResponse createCartResp = request.post("/carrinhos", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
@@ -118,45 +51,40 @@ public class CartsPlaywrightTest extends BaseApiTest {
                 .setData(cartBody));
         assertEquals(201, createCartResp.status());
 
-        Map<String, Object> createCartBody = objectMapper.readValue(createCartResp.body(), Map.class);
-        assertEquals("Cadastro realizado com sucesso", createCartBody.get("message"));
-        assertNotNull(createCartBody.get("_id"));
+        Message createCartBody = read(createCartResp, Message.class);
+        assertEquals("Cadastro realizado com sucesso", createCartBody.message());
+        assertNotNull(createCartBody.id());
 
-        String cartId = (String) createCartBody.get("_id");
+        String cartId = createCartBody.id();
 
         APIResponse getCartResp = request.get("/carrinhos/" + cartId);
         assertEquals(200, getCartResp.status());
 
-        Map<String, Object> getCartBody = objectMapper.readValue(getCartResp.body(), Map.class);
+        Cart cart = read(getCartResp, Cart.class);
 
-        var produtos = (java.util.List<?>) getCartBody.get("produtos");
-        assertEquals(1, produtos.size());
-        assertNotNull(getCartBody.get("precoTotal"));
-        assertNotNull(getCartBody.get("quantidadeTotal"));
-        assertNotNull(getCartBody.get("idUsuario"));
-        assertEquals(cartId, getCartBody.get("_id"));
+        assertEquals(1, cart.produtos().size());
+        assertNotNull(cart.precoTotal());
+        assertNotNull(cart.quantidadeTotal());
+        assertNotNull(cart.idUsuario());
+        assertEquals(cartId, cart.id());
 
         APIResponse concludeResp = request.delete("/carrinhos/concluir-compra", RequestOptions.create()
                 .setHeader("Authorization", token));
         assertEquals(200, concludeResp.status());
 
-        Map<String, Object> concludeBody = objectMapper.readValue(concludeResp.body(), Map.class);
-        String message = (String) concludeBody.get("message");
+        Message concludeBody = read(concludeResp, Message.class);
+        String message = concludeBody.message();
         assertTrue(message.contains("Registro excluído com sucesso"));
     }
 
     @Test
     @DisplayName("CT02 - Cancel purchase and return products to stock")
     void ct02_cancelPurchaseAndReturnProductsToStock() throws Exception {
-        String token = loginWithDefaultPayload();
-
-        // Cancel any existing cart
-        request.delete("/carrinhos/cancelar-compra", RequestOptions.create()
-                .setHeader("Authorization", token));
+        CartFixture fixture = setup(200, 5, "Product for cancel purchase test");
+        String token = fixture.token();
+        String productId = fixture.productId();
 
-        String productId = createProduct(token, 200, 5, "Product for cancel purchase test");
-
-        String cartBody = String.format("{\"produtos\":[{\"idProduto\":\"%s\",\"quantidade\":1}]}", productId);
+        byte[] cartBody = JsonBody.object().produto(productId, 1).toBytes();
 
         APIResponse createCartResp = request.post("/carrinhos", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
@@ -168,8 +96,8 @@ public class CartsPlaywrightTest extends BaseApiTest {
                 .setHeader("Authorization", token));
         assertEquals(200, cancelResp.status());
 
-        Map<String, Object> cancelBody = objectMapper.readValue(cancelResp.body(), Map.class);
-        assertNotNull(cancelBody.get("message"));
+        Message cancelBody = read(cancelResp, Message.class);
+        assertNotNull(cancelBody.message());
     }
 
     @Test
@@ -182,23 +110,19 @@ public class CartsPlaywrightTest extends BaseApiTest {
                 .setData(cartBody));
 
         assertEquals(401, resp.status());
-        Map<String, Object> body = parseResponseBody(resp);
+        Message body = read(resp, Message.class);
         assertEquals("Token de acesso ausente, inválido, expirado ou usuário do token não existe mais",
-                body.get("message"));
+                body.message());
     }
 
     @Test
     @DisplayName("CT04 - Prevent creating more than one cart for the same user")
     void ct04_preventCreatingMoreThanOneCartForSameUser() throws Exception {
-        String token = loginWithDefaultPayload();
-
-        // Cancel any existing cart
-        request.delete("/carrinhos/cancelar-compra", RequestOptions.create()
-                .setHeader("Authorization", token));
-
-        String productId = createProduct(token, 120, 3, "Product for multiple cart test");
+        CartFixture fixture = setup(120, 3, "Product for multiple cart test");
+        String token = fixture.token();
+        String productId = fixture.productId();
 
-        String firstCart = String.format("{\"produtos\":[{\"idProduto\":\"%s\",\"quantidade\":1}]}", productId);
+        byte[] firstCart = JsonBody.object().produto(productId, 1).toBytes();
 
         APIResponse firstResp = request.post("/carrinhos", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
@@ -212,8 +136,8 @@ public class CartsPlaywrightTest extends BaseApiTest {
                 .setData(firstCart));
         assertEquals(400, secondResp.status());
 
-        Map<String, Object> secondBody = objectMapper.readValue(secondResp.body(), Map.class);
-        assertTrue(((String) secondBody.get("message")).contains("Não é permitido ter mais de 1 carrinho"));
+        Message secondBody = read(secondResp, Message.class);
+        assertTrue(secondBody.message().contains("Não é permitido ter mais de 1 carrinho"));
     }
 
     @Test
@@ -229,15 +153,11 @@ public class CartsPlaywrightTest extends BaseApiTest {
     @Test
     @DisplayName("CT06 - Prevent cart creation when product stock is insufficient")
     void ct06_preventCartCreationWhenProductStockIsInsufficient() throws Exception {
-        String token = loginWithDefaultPayload();
+        CartFixture fixture = setup(100, 1, "Low stock product for cart test");
+        String token = fixture.token();
+        String productId = fixture.productId();
 
-        // Cancel any existing cart
-        request.delete("/carrinhos/cancelar-compra", RequestOptions.create()
-                .setHeader("Authorization", token));
-
-        String productId = createProduct(token, 100, 1, "Low stock product for cart test");
-
-        String cartBody = String.format("{\"produtos\":[{\"idProduto\":\"%s\",\"quantidade\":2}]}", productId);
+        byte[] cartBody = JsonBody.object().produto(productId, 2).toBytes();
 
         APIResponse resp = request.post("/carrinhos", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
@@ -245,24 +165,18 @@ public class CartsPlaywrightTest extends BaseApiTest {
                 .setData(cartBody));
 
         assertEquals(400, resp.status());
-        Map<String, Object> body = parseResponseBody(resp);
-        assertTrue(((String) body.get("message")).contains("Produto não possui quantidade suficiente"));
+        Message body = read(resp, Message.class);
+        assertTrue(body.message().contains("Produto não possui quantidade suficiente"));
     }
 
     @Test
     @DisplayName("CT07 - Prevent cart creation with duplicated products in the same cart")
     void ct07_preventCartCreationWithDuplicatedProductsInSameCart() throws Exception {
-        String token = loginWithDefaultPayload();
-
-        // Cancel any existing cart
-        request.delete("/carrinhos/cancelar-compra", RequestOptions.create()
-                .setHeader("Authorization", token));
+        CartFixture fixture = setup(150, 10, "Product created for duplicated products cart test");
+        String token = fixture.token();
+        String productId = fixture.productId();
 
-        String productId = createProduct(token, 150, 10, "Product created for duplicated products cart test");
-
-        String duplicatedCartBody = String.format(
-                "{\"produtos\":[{\"idProduto\":\"%s\",\"quantidade\":1},{\"idProduto\":\"%s\",\"quantidade\":1}]}",
-                productId, productId);
+        byte[] duplicatedCartBody = JsonBody.object().produto(productId, 1).produto(productId, 1).toBytes();
 
         APIResponse resp = request.post("/carrinhos", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
@@ -270,18 +184,14 @@ public class CartsPlaywrightTest extends BaseApiTest {
                 .setData(duplicatedCartBody));
 
         assertEquals(400, resp.status());
-        Map<String, Object> body = parseResponseBody(resp);
-        assertTrue(((String) body.get("message")).contains("Não é permitido possuir produto duplicado"));
+        Message body = read(resp, Message.class);
+        assertTrue(body.message().contains("Não é permitido possuir produto duplicado"));
     }
 
     @Test
     @DisplayName("CT08 - Prevent cart creation with non-existing product")
     void ct08_preventCartCreationWithNonExistingProduct() throws Exception {
-        String token = loginWithDefaultPayload();
-
-        // Cancel any existing cart
-        request.delete("/carrinhos/cancelar-compra", RequestOptions.create()
-                .setHeader("Authorization", token));
+        String token = CartSetup.create().admin(true).cancelCart().ready().token();
 
         String invalidCartBody = "{\"produtos\":[{\"idProduto\":\"AAAAAAAAAAAAAAAA\",\"quantidade\":1}]}";
 
@@ -291,7 +201,7 @@ public class CartsPlaywrightTest extends BaseApiTest {
                 .setData(invalidCartBody));
 
         assertEquals(400, resp.status());
-        Map<String, Object> body = parseResponseBody(resp);
-        assertTrue(((String) body.get("message")).contains("Produto não encontrado"));
+        Message body = read(resp, Message.class);
+        assertTrue(body.message().contains("Produto não encontrado"));
     }
 }
@@ -17,6 +17,7 @@ import org.junit.jupiter.params.provider.CsvFileSource;
 import com.microsoft.playwright.APIResponse;
 import com.microsoft.playwright.options.RequestOptions;
 
+import common_serverest.model.Message;
 import playwright_serverest.BaseApiTest;
 import playwright_serverest.utils.FakerUtils;
 
@@ -25,13 +26,8 @@ import playwright_serverest.utils.FakerUtils;
 public class LoginPlaywrightTest extends BaseApiTest {
 
     private APIResponse createUser(String email, String password, boolean admin) {
-        String payload = String.format("""
-                {
-                  "nome": "%s",
-                  "email": "%s",
-                  "password": "%s",
-                  "administrador": "%s"
-                }""", email, email, password, admin ? "true" : "false");
+        byte[] payload = buildJson("nome", email, "email", email,
+                "password", password, "administrador", admin ? "true" : "false");
 
         return request.post("/usuarios", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
@@ -47,8 +43,7 @@ public class LoginPlaywrightTest extends BaseApiTest {
         APIResponse createResp = createUser(email, password, false);
         assertEquals(201, createResp.status(), "User creation should return 201");
 
-        String loginBody = String.format("""
-                {"email": "%s", "password": "%s"}""", email, password);
+        byte[] loginBody = buildJson("email", email, "password", password);
 
         APIResponse loginResp = request.post("/login", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
@@ -56,9 +51,9 @@ public class LoginPlaywrightTest extends BaseApiTest {
 
         assertEquals(200, loginResp.status());
 
-        Map<String, Object> body = parseResponseBody(loginResp);
-        assertEquals("Login realizado com sucesso", body.get("message"));
-        assertNotNull(body.get("authorization"), "authorization token must not be null");
+        Message body = read(loginResp, Message.class);
+        assertEquals("Login realizado com sucesso", body.message());
+        assertNotNull(body.authorization(), "authorization token must not be null");
     }
 
     @Test
@@ -76,9 +71,9 @@ public class LoginPlaywrightTest extends BaseApiTest {
 
         assertEquals(401, resp.status());
 
-        Map<String, Object> responseBody = parseResponseBody(resp);
-        assertEquals("Email e/ou senha inválidos", responseBody.get("message"));
-        assertNull(responseBody.get("authorization"));
+        Message responseBody = read(resp, Message.class);
+        assertEquals("Email e/ou senha inválidos", responseBody.message());
+        assertNull(responseBody.authorization());
     }
 
     @DisplayName("CT03 - Validate required fields on login")
@@ -120,26 +115,21 @@ public class LoginPlaywrightTest extends BaseApiTest {
         APIResponse createResp = createUser(userEmail, userPassword, false);
         assertEquals(201, createResp.status());
 
-        String loginBody = String.format("{\"email\": \"%s\", \"password\": \"%s\"}", userEmail, userPassword);
+        byte[] loginBody = buildJson("email", userEmail, "password", userPassword);
 
         APIResponse loginResp = request.post("/login", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
                 .setData(loginBody));
         assertEquals(200, loginResp.status());
 
-        Map<String, Object> loginBody2 = parseResponseBody(loginResp);
-        assertEquals("Login realizado com sucesso", loginBody2.get("message"));
-        String authToken = (String) loginBody2.get("authorization");
+        Message loginBody2 = read(loginResp, Message.class);
+        assertEquals("Login realizado com sucesso", loginBody2.message());
+        String authToken = loginBody2.authorization();
 
         // Attempt to access admin-only route with non-admin token
         String productName = FakerUtils.randomProduct();
-        String productPayload = String.format("""
-                {
-                  "nome": "%s",
-                  "preco": 100,
-                  "descricao": "Product generated for auth test",
-                  "quantidade": 10
-                }""", productName);
+        byte[] productPayload = buildJson("nome", productName, "preco", 100,
+                "descricao", "Product generated for auth test", "quantidade", 10);
 
         APIResponse productResp = request.post("/produtos", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
@@ -147,8 +137,8 @@ public class LoginPlaywrightTest extends BaseApiTest {
                 .setData(productPayload));
 
         assertEquals(403, productResp.status());
-        Map<String, Object> productBody = parseResponseBody(productResp);
-        assertEquals("Rota exclusiva para administradores", productBody.get("message"));
+        Message productBody = read(productResp, Message.class);
+        assertEquals("Rota exclusiva para administradores", productBody.message());
     }
 
     @ParameterizedTest(name = "CT05 - Validate invalid email format: {0}")
@@ -156,7 +146,7 @@ public class LoginPlaywrightTest extends BaseApiTest {
     @Execution(ExecutionMode.CONCURRENT)
     @DisplayName("CT05 - Validate invalid email format")
     void ct05_validateInvalidEmailFormat(String invalidEmail) throws Exception {
-        String body = String.format("{\"email\": \"%s\", \"password\": \"senha123\"}", invalidEmail);
+        byte[] body = buildJson("email", invalidEmail, "password", "senha123");
 
         APIResponse resp = request.post("/login", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
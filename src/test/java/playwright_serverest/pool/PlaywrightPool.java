@@ -0,0 +1,250 @@
+package playwright_serverest.pool;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.microsoft.playwright.APIRequest;
+import com.microsoft.playwright.APIRequestContext;
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.Playwright;
+
+import common_serverest.ServeRestEnvironment;
+import common_serverest.http.AdaptiveLimit;
+import common_serverest.warmup.Warmup;
+
+/**
+ * Playwright drivers with a ready {@link APIRequestContext}, shared by all Playwright test
+ * classes of the JVM and disposed of once, when JUnit closes the root extension store at the
+ * end of the run.
+ *
+ * Each {@link Lease} owns its Playwright instance (one Node driver process), since Playwright
+ * objects must not be used by two threads at once. {@code -Dserverest.playwright.prelaunch}
+ * drivers (default 2) are started and warmed up in the background as soon as the pool is
+ * created; more are started on demand up to {@code -Dserverest.playwright.pool.size} (default 4,
+ * one per Playwright class as before the pool; every surefire fork has its own pool, so larger
+ * sizes are opt-in), after which {@link #acquire()} waits for a release.
+ *
+ * Concurrent test methods use {@link #threadBoundRequest()}: every call is routed to the lease
+ * bound to the calling thread, taken on first use and returned by {@link #releaseCurrentThread()}
+ * when the test ends, so methods of one class run in parallel on separate drivers. Each call
+ * that returns an {@link APIResponse} also goes through the JVM-wide {@link AdaptiveLimit}.
+ */
+public final class PlaywrightPool implements ExtensionContext.Store.CloseableResource {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlaywrightPool.class);
+
+    static final int SIZE = Integer.getInteger("serverest.playwright.pool.size", 4);
+    static final int PRELAUNCH = Math.min(SIZE, Integer.getInteger("serverest.playwright.prelaunch", 2));
+    static final long LEASE_TIMEOUT_SECONDS = Long.getLong("serverest.playwright.leaseTimeoutSeconds", 120);
+
+    /**
+     * A Playwright driver and its request context, used by one holder at a time.
+     */
+    public record Lease(Playwright playwright, APIRequestContext request) {
+    }
+
+    private final String baseUrl;
+    private final int size;
+    private final LinkedBlockingQueue<Lease> idle = new LinkedBlockingQueue<>();
+    private final List<Lease> launched = new CopyOnWriteArrayList<>();
+    private final AtomicInteger reserved = new AtomicInteger();
+    private final ThreadLocal<Lease> bound = new ThreadLocal<>();
+    private final APIRequestContext threadBoundRequest = (APIRequestContext) Proxy.newProxyInstance(
+            APIRequestContext.class.getClassLoader(), new Class<?>[] { APIRequestContext.class },
+            (proxy, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) {
+                    return switch (method.getName()) {
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        default -> "thread-bound APIRequestContext";
+                    };
+                }
+                if (method.getName().equals("dispose")) {
+                    // contexts belong to the pool, which disposes of them at the end of the run
+                    return null;
+                }
+                if (method.getReturnType() != APIResponse.class) {
+                    return invoke(method, args);
+                }
+                try (AdaptiveLimit.Permit permit = AdaptiveLimit.shared().acquire()) {
+                    APIResponse response = (APIResponse) invoke(method, args);
+                    permit.complete(response.status());
+                    return response;
+                }
+            });
+    private volatile boolean closed;
+
+    PlaywrightPool(String baseUrl, int size, int prelaunch) {
+        this.baseUrl = baseUrl;
+        this.size = size;
+        if (prelaunch > 0) {
+            Thread launcher = new Thread(() -> {
+                for (int i = 0; i < prelaunch && reserve(); i++) {
+                    try {
+                        idle.add(warm(launch()));
+                    } catch (RuntimeException e) {
+                        reserved.decrementAndGet();
+                        logger.warn("could not prelaunch a Playwright driver", e);
+                        return;
+                    }
+                }
+            }, "serverest-playwright-prelaunch");
+            launcher.setDaemon(true);
+            launcher.start();
+        }
+    }
+
+    /**
+     * The JVM-wide pool, created on first use and kept in the root store of the test run.
+     */
+    public static PlaywrightPool shared(ExtensionContext context) {
+        return context.getRoot().getStore(ExtensionContext.Namespace.GLOBAL).getOrComputeIfAbsent(
+                PlaywrightPool.class, type -> new PlaywrightPool(ServeRestEnvironment.baseUrl(), SIZE, PRELAUNCH),
+                PlaywrightPool.class);
+    }
+
+    /**
+     * An idle lease, a newly launched one while below the pool size, or the next one released.
+     */
+    public Lease acquire() {
+        Lease lease = idle.poll();
+        if (lease != null) {
+            return lease;
+        }
+        if (reserve()) {
+            try {
+                return launch();
+            } catch (RuntimeException e) {
+                reserved.decrementAndGet();
+                throw e;
+            }
+        }
+        try {
+            lease = idle.poll(LEASE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a Playwright driver", e);
+        }
+        if (lease == null) {
+            throw new IllegalStateException("No Playwright driver released within " + LEASE_TIMEOUT_SECONDS
+                    + "s (pool size " + size + ", -Dserverest.playwright.pool.size)");
+        }
+        return lease;
+    }
+
+    /**
+     * Returns the lease to the pool; after {@link #close()} it is already disposed of.
+     */
+    public void release(Lease lease) {
+        if (!closed) {
+            idle.add(lease);
+        }
+    }
+
+    /**
+     * An {@link APIRequestContext} that forwards each call to the calling thread's lease.
+     */
+    public APIRequestContext threadBoundRequest() {
+        return threadBoundRequest;
+    }
+
+    private Object invoke(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(currentLease().request(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * The lease bound to the calling thread, acquiring one on first use.
+     */
+    public Lease currentLease() {
+        Lease lease = bound.get();
+        if (lease == null) {
+            lease = acquire();
+            bound.set(lease);
+        }
+        return lease;
+    }
+
+    /**
+     * Returns the calling thread's lease, if any, to the pool.
+     */
+    public void releaseCurrentThread() {
+        Lease lease = bound.get();
+        if (lease != null) {
+            bound.remove();
+            release(lease);
+        }
+    }
+
+    public int launchedCount() {
+        return launched.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (Lease lease : launched) {
+            dispose(lease);
+        }
+        logger.info("playwright pool: disposed {} driver(s)", launched.size());
+        launched.clear();
+        idle.clear();
+    }
+
+    private boolean reserve() {
+        int current;
+        do {
+            current = reserved.get();
+            if (current >= size) {
+                return false;
+            }
+        } while (!reserved.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private Lease launch() {
+        long start = System.nanoTime();
+        Playwright playwright = Playwright.create();
+        APIRequestContext request = playwright.request().newContext(new APIRequest.NewContextOptions()
+                .setBaseURL(baseUrl));
+        Lease lease = new Lease(playwright, request);
+        launched.add(lease);
+        logger.debug("playwright driver {} launched in {} ms", launched.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return lease;
+    }
+
+    /**
+     * Sends {@link Warmup#PATH} so a prelaunched driver already holds a connection (DNS, TCP and
+     * TLS done) when its first test runs.
+     */
+    private static Lease warm(Lease lease) {
+        try {
+            lease.request().get(Warmup.PATH).dispose();
+        } catch (RuntimeException e) {
+            logger.debug("playwright driver warm-up request failed", e);
+        }
+        return lease;
+    }
+
+    private static void dispose(Lease lease) {
+        try {
+            lease.request().dispose();
+        } finally {
+            lease.playwright().close();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package playwright_serverest.pool;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/**
+ * Resolves {@link PlaywrightPool} parameters to the JVM-wide pool and returns the executing
+ * thread's lease to it after each test (and after {@code @AfterAll}, for calls made in
+ * class-level callbacks), so a driver is held only while a test runs.
+ */
+public class PlaywrightPoolExtension implements ParameterResolver, AfterEachCallback, AfterAllCallback {
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == PlaywrightPool.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return PlaywrightPool.shared(extensionContext);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        PlaywrightPool.shared(context).releaseCurrentThread();
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        PlaywrightPool.shared(context).releaseCurrentThread();
+    }
+}
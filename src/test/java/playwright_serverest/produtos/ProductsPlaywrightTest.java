@@ -2,7 +2,6 @@ package playwright_serverest.produtos;
 
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -19,73 +18,35 @@ import org.junit.jupiter.params.provider.ValueSource;
 import com.microsoft.playwright.APIResponse;
 import com.microsoft.playwright.options.RequestOptions;
 
+import common_serverest.json.JsonBody;
+import common_serverest.json.StreamingListValidator;
+import common_serverest.model.Message;
+import common_serverest.model.Product;
+import common_serverest.model.ProductList;
 import playwright_serverest.BaseApiTest;
+import playwright_serverest.utils.FakerUtils;
 
 @TestInstance(Lifecycle.PER_CLASS)
 @Execution(ExecutionMode.CONCURRENT)
 @SuppressWarnings("unchecked")
 public class ProductsPlaywrightTest extends BaseApiTest {
 
-    private String getAdminToken() throws Exception {
-        String email = "admin." + UUID.randomUUID() + "@example.com";
-        String password = "SenhaSegura@123";
-
-        String userPayload = String.format("""
-                {
-                  "nome": "Admin User",
-                  "email": "%s",
-                  "password": "%s",
-                  "administrador": "true"
-                }""", email, password);
-
-        request.post("/usuarios", RequestOptions.create()
-                .setHeader("Content-Type", "application/json")
-                .setData(userPayload));
-
-        String loginBody = String.format("{\"email\": \"%s\", \"password\": \"%s\"}", email, password);
-        APIResponse loginResp = request.post("/login", RequestOptions.create()
-                .setHeader("Content-Type", "application/json")
-                .setData(loginBody));
-        assertEquals(200, loginResp.status());
-
-        Map<String, Object> loginBody2 = objectMapper.readValue(loginResp.body(), Map.class);
-        return (String) loginBody2.get("authorization");
-    }
-
     @Test
     @DisplayName("CT01 - List all products and validate JSON structure")
     void ct01_listProducts() throws Exception {
         APIResponse resp = request.get("/produtos");
         assertEquals(200, resp.status());
 
-        Map<String, Object> body = parseResponseBody(resp);
-        int quantidade = (int) body.get("quantidade");
-        List<Map<String, Object>> produtos = (List<Map<String, Object>>) body.get("produtos");
-
-        assertTrue(quantidade >= 0);
-        assertNotNull(produtos);
-
-        for (Map<String, Object> product : produtos) {
-            assertTrue(product.containsKey("nome"));
-            assertTrue(product.containsKey("preco"));
-            assertTrue(product.containsKey("descricao"));
-            assertTrue(product.containsKey("quantidade"));
-            assertTrue(product.containsKey("_id"));
-        }
+        StreamingListValidator.products().validate(resp.body()).assertValid();
     }
 
     @Test
     @DisplayName("CT02 - Create a new product as an administrator")
     void ct02_createProductAsAdmin() throws Exception {
-        String token = getAdminToken();
-        String productName = "Product " + System.currentTimeMillis();
-        String productPayload = String.format("""
-                {
-                  "nome": "%s",
-                  "preco": 250,
-                  "descricao": "Automated test product",
-                  "quantidade": 100
-                }""", productName);
+        String token = adminToken();
+        String productName = "Product " + FakerUtils.uniqueToken();
+        byte[] productPayload = buildJson("nome", productName, "preco", 250,
+                "descricao", "Automated test product", "quantidade", 100);
 
         APIResponse createResp = request.post("/produtos", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
@@ -94,34 +55,28 @@ public class ProductsPlaywrightTest extends BaseApiTest {
 
         assertEquals(201, createResp.status());
 
-        Map<String, Object> createBody = parseResponseBody(createResp);
-        assertEquals("Cadastro realizado com sucesso", createBody.get("message"));
-        assertNotNull(createBody.get("_id"));
+        Message createBody = read(createResp, Message.class);
+        assertEquals("Cadastro realizado com sucesso", createBody.message());
+        assertNotNull(createBody.id());
 
-        String productId = (String) createBody.get("_id");
+        String productId = createBody.id();
 
         APIResponse getResp = request.get("/produtos/" + productId);
         assertEquals(200, getResp.status());
 
-        Map<String, Object> product = objectMapper.readValue(getResp.body(), Map.class);
-        assertEquals(productName, product.get("nome"));
-        assertEquals(250, product.get("preco"));
-        assertEquals(100, product.get("quantidade"));
+        Product product = read(getResp, Product.class);
+        assertEquals(productName, product.nome());
+        assertEquals(250, product.preco());
+        assertEquals(100, product.quantidade());
     }
 
     @Test
     @DisplayName("CT03 - Validate error when creating a product with a duplicate name")
     void ct03_duplicateProductName() throws Exception {
-        String token = getAdminToken();
-        String name = "Duplicate Product Test " + System.currentTimeMillis();
+        String token = adminToken();
+        String name = "Duplicate Product Test " + FakerUtils.uniqueToken();
 
-        String productPayload = String.format("""
-                {
-                  "nome": "%s",
-                  "preco": 150,
-                  "descricao": "First product",
-                  "quantidade": 50
-                }""", name);
+        byte[] productPayload = buildJson("nome", name, "preco", 150, "descricao", "First product", "quantidade", 50);
 
         APIResponse first = request.post("/produtos", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
@@ -135,8 +90,8 @@ public class ProductsPlaywrightTest extends BaseApiTest {
                 .setData(productPayload));
         assertEquals(400, second.status());
 
-        Map<String, Object> secondBody = objectMapper.readValue(second.body(), Map.class);
-        assertEquals("Já existe produto com esse nome", secondBody.get("message"));
+        Message secondBody = read(second, Message.class);
+        assertEquals("Já existe produto com esse nome", secondBody.message());
     }
 
     @Test
@@ -145,11 +100,10 @@ public class ProductsPlaywrightTest extends BaseApiTest {
         APIResponse resp = request.get("/produtos?nome=Logitech");
         assertEquals(200, resp.status());
 
-        Map<String, Object> body = parseResponseBody(resp);
-        List<Map<String, Object>> produtos = (List<Map<String, Object>>) body.get("produtos");
+        List<Product> produtos = read(resp, ProductList.class).produtos();
         if (produtos != null && !produtos.isEmpty()) {
-            for (Map<String, Object> p : produtos) {
-                assertTrue(((String) p.get("nome")).contains("Logitech"),
+            for (Product p : produtos) {
+                assertTrue(p.nome().contains("Logitech"),
                         "Product name should contain 'Logitech'");
             }
         }
@@ -161,16 +115,11 @@ public class ProductsPlaywrightTest extends BaseApiTest {
     @Test
     @DisplayName("CT05 - Update information of an existing product")
     void ct05_updateExistingProduct() throws Exception {
-        String token = getAdminToken();
-        String productName = "Product " + System.currentTimeMillis();
+        String token = adminToken();
+        String productName = "Product " + FakerUtils.uniqueToken();
 
-        String initialProduct = String.format("""
-                {
-                  "nome": "%s",
-                  "preco": 100,
-                  "descricao": "Original description",
-                  "quantidade": 50
-                }""", productName);
+        byte[] initialProduct = buildJson("nome", productName, "preco", 100,
+                "descricao", "Original description", "quantidade", 50);
 
         APIResponse createResp = request.post("/produtos", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
@@ -178,16 +127,11 @@ public class ProductsPlaywrightTest extends BaseApiTest {
                 .setData(initialProduct));
         assertEquals(201, createResp.status());
 
-        Map<String, Object> createBody = objectMapper.readValue(createResp.body(), Map.class);
-        String productId = (String) createBody.get("_id");
+        Message createBody = read(createResp, Message.class);
+        String productId = createBody.id();
 
-        String updatedProduct = String.format("""
-                {
-                  "nome": "%s",
-                  "preco": 200,
-                  "descricao": "Updated description",
-                  "quantidade": 75
-                }""", productName);
+        byte[] updatedProduct = buildJson("nome", productName, "preco", 200,
+                "descricao", "Updated description", "quantidade", 75);
 
         APIResponse updateResp = request.put("/produtos/" + productId, RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
@@ -195,16 +139,16 @@ public class ProductsPlaywrightTest extends BaseApiTest {
                 .setData(updatedProduct));
         assertEquals(200, updateResp.status());
 
-        Map<String, Object> updateBody = objectMapper.readValue(updateResp.body(), Map.class);
-        assertEquals("Registro alterado com sucesso", updateBody.get("message"));
+        Message updateBody = read(updateResp, Message.class);
+        assertEquals("Registro alterado com sucesso", updateBody.message());
 
         APIResponse getResp = request.get("/produtos/" + productId);
         assertEquals(200, getResp.status());
 
-        Map<String, Object> product = objectMapper.readValue(getResp.body(), Map.class);
-        assertEquals(200, product.get("preco"));
-        assertEquals("Updated description", product.get("descricao"));
-        assertEquals(75, product.get("quantidade"));
+        Product product = read(getResp, Product.class);
+        assertEquals(200, product.preco());
+        assertEquals("Updated description", product.descricao());
+        assertEquals(75, product.quantidade());
     }
 
     @Test
@@ -213,15 +157,14 @@ public class ProductsPlaywrightTest extends BaseApiTest {
         APIResponse resp = request.get("/produtos");
         assertEquals(200, resp.status());
 
-        Map<String, Object> body = parseResponseBody(resp);
-        List<Map<String, Object>> produtos = (List<Map<String, Object>>) body.get("produtos");
+        List<Product> produtos = read(resp, ProductList.class).produtos();
 
         if (produtos == null || produtos.isEmpty()) {
             return;
         }
 
         List<Number> prices = produtos.stream()
-                .map(p -> (Number) p.get("preco"))
+                .map(p -> (Number) p.preco())
                 .toList();
 
         double maxPrice = prices.stream().mapToDouble(Number::doubleValue).max().orElse(0);
@@ -251,16 +194,16 @@ public class ProductsPlaywrightTest extends BaseApiTest {
                 .setData(productPayload));
 
         assertEquals(401, resp.status());
-        Map<String, Object> body = parseResponseBody(resp);
+        Message body = read(resp, Message.class);
         assertEquals("Token de acesso ausente, inválido, expirado ou usuário do token não existe mais",
-                body.get("message"));
+                body.message());
     }
 
     @DisplayName("CT08 - Validate required fields when creating a product")
     @ParameterizedTest(name = "CT08 - Validate required fields when creating a product")
     @ValueSource(ints = {1, 2, 3, 4})
     void ct08_validateRequiredFieldsWhenCreatingProduct(int numberField) throws Exception {
-        String token = getAdminToken();
+        String token = adminToken();
         String payload = switch (numberField) {
             case 1 -> "{\"preco\": 0.55, \"descricao\": \"Test without name\", \"quantidade\": 10}";
             case 2 -> "{\"nome\": \"Product Without Description\", \"descricao\": \"\", \"quantidade\": 10}";
@@ -283,24 +226,20 @@ public class ProductsPlaywrightTest extends BaseApiTest {
         APIResponse resp = request.get("/produtos");
         assertEquals(200, resp.status());
 
-        Map<String, Object> body = parseResponseBody(resp);
-        List<Map<String, Object>> produtos = (List<Map<String, Object>>) body.get("produtos");
+        List<Product> produtos = read(resp, ProductList.class).produtos();
 
         if (produtos == null) {
             return;
         }
 
-        List<Map<String, Object>> cheapProducts = produtos.stream()
-                .filter(p -> ((Number) p.get("preco")).doubleValue() < 100)
+        List<Product> cheapProducts = produtos.stream()
+                .filter(p -> p.preco() < 100)
                 .toList();
-        List<Map<String, Object>> mediumProducts = produtos.stream()
-                .filter(p -> {
-                    double price = ((Number) p.get("preco")).doubleValue();
-                    return price >= 100 && price < 500;
-                })
+        List<Product> mediumProducts = produtos.stream()
+                .filter(p -> p.preco() >= 100 && p.preco() < 500)
                 .toList();
-        List<Map<String, Object>> expensiveProducts = produtos.stream()
-                .filter(p -> ((Number) p.get("preco")).doubleValue() >= 500)
+        List<Product> expensiveProducts = produtos.stream()
+                .filter(p -> p.preco() >= 500)
                 .toList();
 
         assertNotNull(cheapProducts);
@@ -311,16 +250,11 @@ public class ProductsPlaywrightTest extends BaseApiTest {
     @Test
     @DisplayName("CT10 - Delete an existing product")
     void ct10_deleteExistingProduct() throws Exception {
-        String token = getAdminToken();
-        String productName = "Product " + System.currentTimeMillis();
+        String token = adminToken();
+        String productName = "Product " + FakerUtils.uniqueToken();
 
-        String productPayload = String.format("""
-                {
-                  "nome": "%s",
-                  "preco": 100,
-                  "descricao": "Product to delete",
-                  "quantidade": 10
-                }""", productName);
+        byte[] productPayload = buildJson("nome", productName, "preco", 100,
+                "descricao", "Product to delete", "quantidade", 10);
 
         APIResponse createResp = request.post("/produtos", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
@@ -328,30 +262,30 @@ public class ProductsPlaywrightTest extends BaseApiTest {
                 .setData(productPayload));
         assertEquals(201, createResp.status());
 
-        Map<String, Object> createBody = objectMapper.readValue(createResp.body(), Map.class);
-        String productId = (String) createBody.get("_id");
+        Message createBody = read(createResp, Message.class);
+        String productId = createBody.id();
 
         APIResponse deleteResp = request.delete("/produtos/" + productId, RequestOptions.create()
                 .setHeader("Authorization", token));
         assertEquals(200, deleteResp.status());
 
-        Map<String, Object> deleteBody = objectMapper.readValue(deleteResp.body(), Map.class);
-        assertEquals("Registro excluído com sucesso", deleteBody.get("message"));
+        Message deleteBody = read(deleteResp, Message.class);
+        assertEquals("Registro excluído com sucesso", deleteBody.message());
 
         APIResponse getResp = request.get("/produtos/" + productId);
         assertEquals(400, getResp.status());
 
-        Map<String, Object> getBody = objectMapper.readValue(getResp.body(), Map.class);
-        assertEquals("Produto não encontrado", getBody.get("message"));
+        Message getBody = read(getResp, Message.class);
+        assertEquals("Produto não encontrado", getBody.message());
     }
 
     @Test
     @DisplayName("CT11 - Create a product from fixed JSON payload")
     void ct11_createProductFromFixedJsonPayload() throws Exception {
-        String token = getAdminToken();
+        String token = adminToken();
 
         Map<String, Object> productPayload = loadJsonResource("playwright_serverest/produtos/resources/productPayload.json");
-        productPayload.put("nome", "Product " + System.currentTimeMillis());
+        productPayload.put("nome", "Product " + FakerUtils.uniqueToken());
 
         APIResponse resp = request.post("/produtos", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
@@ -359,24 +293,19 @@ public class ProductsPlaywrightTest extends BaseApiTest {
                 .setData(objectMapper.writeValueAsString(productPayload)));
 
         assertEquals(201, resp.status());
-        Map<String, Object> body = parseResponseBody(resp);
-        assertEquals("Cadastro realizado com sucesso", body.get("message"));
-        assertNotNull(body.get("_id"));
+        Message body = read(resp, Message.class);
+        assertEquals("Cadastro realizado com sucesso", body.message());
+        assertNotNull(body.id());
     }
 
     @Test
     @DisplayName("CT12 - Prevent deleting a product that is part of a cart")
     void ct12_preventDeletingProductInCart() throws Exception {
-        String adminToken = getAdminToken();
+        String adminToken = adminToken();
 
-        String productName = "Product " + System.currentTimeMillis();
-        String productPayload = String.format("""
-                {
-                  "nome": "%s",
-                  "preco": 300,
-                  "descricao": "Product linked to cart",
-                  "quantidade": 10
-                }""", productName);
+        String productName = "Product " + FakerUtils.uniqueToken();
+        byte[] productPayload = buildJson("nome", productName, "preco", 300,
+                "descricao", "Product linked to cart", "quantidade", 10);
 
         APIResponse createProductResp = request.post("/produtos", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
@@ -384,43 +313,35 @@ public class ProductsPlaywrightTest extends BaseApiTest {
                 .setData(productPayload));
         assertEquals(201, createProductResp.status());
 
-        Map<String, Object> createProductBody = objectMapper.readValue(createProductResp.body(), Map.class);
-        String productId = (String) createProductBody.get("_id");
+        Message createProductBody = read(createProductResp, Message.class);
+        String productId = createProductBody.id();
 
         // Create non-admin user and login
-        String userEmail = "cart.user." + System.currentTimeMillis() + "@example.com";
+        String userEmail = "cart.user." + FakerUtils.uniqueToken() + "@example.com";
         String userPassword = "SenhaSegura@123";
 
-        String userData = String.format("""
-                {
-                  "nome": "Cart User",
-                  "email": "%s",
-                  "password": "%s",
-                  "administrador": "false"
-                }""", userEmail, userPassword);
+        byte[] userData = buildJson("nome", "Cart User", "email", userEmail,
+                "password", userPassword, "administrador", "false");
 
         request.post("/usuarios", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
                 .setData(userData));
 
-        String loginPayload = String.format("{\"email\": \"%s\", \"password\": \"%s\"}", userEmail, userPassword);
+        byte[] loginPayload = buildJson("email", userEmail, "password", userPassword);
         APIResponse loginResp = request.post("/login", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
                 .setData(loginPayload));
         assertEquals(200, loginResp.status());
 
-        Map<String, Object> loginBody = objectMapper.readValue(loginResp.body(), Map.class);
-        String userToken = (String) loginBody.get("authorization");
+        Message loginBody = read(loginResp, Message.class);
+        String userToken = loginBody.authorization();
 
         // Cancel any existing cart
         request.delete("/carrinhos/cancelar-compra", RequestOptions.create()
                 .setHeader("Authorization", userToken));
 
         // Create cart with the product
-        String cartBody = String.format("""
-                {
-                  "produtos": [{"idProduto": "%s", "quantidade": 1}]
-                }""", productId);
+        byte[] cartBody = JsonBody.object().produto(productId, 1).toBytes();
         APIResponse cartResp = request.post("/carrinhos", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
                 .setHeader("Authorization", userToken)
@@ -432,38 +353,14 @@ public class ProductsPlaywrightTest extends BaseApiTest {
                 .setHeader("Authorization", adminToken));
         assertEquals(400, deleteResp.status());
 
-        Map<String, Object> deleteBody = objectMapper.readValue(deleteResp.body(), Map.class);
-        assertEquals("Não é permitido excluir produto que faz parte de carrinho", deleteBody.get("message"));
+        Message deleteBody = read(deleteResp, Message.class);
+        assertEquals("Não é permitido excluir produto que faz parte de carrinho", deleteBody.message());
     }
 
     @Test
     @DisplayName("CT13 - Restrict product creation to administrators only")
     void ct13_restrictProductCreationToAdmins() throws Exception {
-        // Create non-admin user
-        String userEmail = "non.admin." + System.currentTimeMillis() + "@example.com";
-        String userPassword = "SenhaSegura@123";
-
-        String userData = String.format("""
-                {
-                  "nome": "Non Admin User",
-                  "email": "%s",
-                  "password": "%s",
-                  "administrador": "false"
-                }""", userEmail, userPassword);
-
-        request.post("/usuarios", RequestOptions.create()
-                .setHeader("Content-Type", "application/json")
-                .setData(userData));
-
-        // Login as non-admin
-        String loginPayload = String.format("{\"email\": \"%s\", \"password\": \"%s\"}", userEmail, userPassword);
-        APIResponse loginResp = request.post("/login", RequestOptions.create()
-                .setHeader("Content-Type", "application/json")
-                .setData(loginPayload));
-        assertEquals(200, loginResp.status());
-
-        Map<String, Object> loginBody = objectMapper.readValue(loginResp.body(), Map.class);
-        String nonAdminToken = (String) loginBody.get("authorization");
+        String nonAdminToken = userToken();
 
         // Try to create product with non-admin token
         String productData = """
@@ -480,7 +377,7 @@ public class ProductsPlaywrightTest extends BaseApiTest {
                 .setData(productData));
 
         assertEquals(403, productResp.status());
-        Map<String, Object> productBody = objectMapper.readValue(productResp.body(), Map.class);
-        assertEquals("Rota exclusiva para administradores", productBody.get("message"));
+        Message productBody = read(productResp, Message.class);
+        assertEquals("Rota exclusiva para administradores", productBody.message());
     }
 }
@@ -18,6 +18,12 @@ import org.junit.jupiter.api.parallel.ExecutionMode;
 import com.microsoft.playwright.APIResponse;
 import com.microsoft.playwright.options.RequestOptions;
 
+import common_serverest.assertions.FieldFormats;
+import common_serverest.json.JsonBody;
+import common_serverest.json.StreamingListValidator;
+import common_serverest.model.Message;
+import common_serverest.model.User;
+import common_serverest.model.UserList;
 import playwright_serverest.BaseApiTest;
 import playwright_serverest.utils.FakerUtils;
 
@@ -33,24 +39,10 @@ public class UsersPlaywrightTest extends BaseApiTest {
 
         assertEquals(200, resp.status());
 
-        Map<String, Object> body = objectMapper.readValue(resp.body(), Map.class);
-        int quantidade = (int) body.get("quantidade");
-        List<Map<String, Object>> usuarios = (List<Map<String, Object>>) body.get("usuarios");
-
-        assertTrue(quantidade > 0, "quantidade should be greater than 0");
-        assertNotNull(usuarios);
-        assertFalse(usuarios.isEmpty());
-
-        for (Map<String, Object> user : usuarios) {
-            assertTrue(user.containsKey("nome"));
-            assertTrue(user.containsKey("email"));
-            assertTrue(user.containsKey("password"));
-            assertTrue(user.containsKey("administrador"));
-            assertTrue(user.containsKey("_id"));
+        StreamingListValidator.Result usuarios = StreamingListValidator.users().validate(resp.body());
 
-            String email = (String) user.get("email");
-            assertTrue(email.matches(".+@.+\\..+"), "Email should match basic email pattern");
-        }
+        assertTrue(usuarios.count() > 0, "usuarios should not be empty");
+        usuarios.assertValid();
     }
 
     @Test
@@ -59,17 +51,16 @@ public class UsersPlaywrightTest extends BaseApiTest {
         APIResponse listResp = request.get("/usuarios");
         assertEquals(200, listResp.status());
 
-        Map<String, Object> listBody = objectMapper.readValue(listResp.body(), Map.class);
-        List<Map<String, Object>> usuarios = (List<Map<String, Object>>) listBody.get("usuarios");
-        String userId = (String) usuarios.get(0).get("_id");
+        List<User> usuarios = read(listResp, UserList.class).usuarios();
+        String userId = usuarios.get(0).id();
 
         APIResponse getResp = request.get("/usuarios/" + userId);
         assertEquals(200, getResp.status());
 
-        Map<String, Object> user = objectMapper.readValue(getResp.body(), Map.class);
-        assertEquals(userId, user.get("_id"));
-        assertNotNull(user.get("nome"));
-        assertNotNull(user.get("email"));
+        User user = read(getResp, User.class);
+        assertEquals(userId, user.id());
+        assertNotNull(user.nome());
+        assertNotNull(user.email());
     }
 
     @Test
@@ -79,13 +70,7 @@ public class UsersPlaywrightTest extends BaseApiTest {
         String name = FakerUtils.randomName();
         String password = FakerUtils.randomPassword();
 
-        String payload = String.format("""
-                {
-                  "nome": "%s",
-                  "email": "%s",
-                  "password": "%s",
-                  "administrador": "true"
-                }""", name, email, password);
+        byte[] payload = buildJson("nome", name, "email", email, "password", password, "administrador", "true");
 
         APIResponse createResp = request.post("/usuarios", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
@@ -93,18 +78,18 @@ public class UsersPlaywrightTest extends BaseApiTest {
 
         assertEquals(201, createResp.status());
 
-        Map<String, Object> createBody = objectMapper.readValue(createResp.body(), Map.class);
-        assertEquals("Cadastro realizado com sucesso", createBody.get("message"));
-        assertNotNull(createBody.get("_id"));
+        Message createBody = read(createResp, Message.class);
+        assertEquals("Cadastro realizado com sucesso", createBody.message());
+        assertNotNull(createBody.id());
 
-        String newUserId = (String) createBody.get("_id");
+        String newUserId = createBody.id();
 
         APIResponse getResp = request.get("/usuarios/" + newUserId);
         assertEquals(200, getResp.status());
 
-        Map<String, Object> user = objectMapper.readValue(getResp.body(), Map.class);
-        assertEquals(name, user.get("nome"));
-        assertEquals(email, user.get("email"));
+        User user = read(getResp, User.class);
+        assertEquals(name, user.nome());
+        assertEquals(email, user.email());
     }
 
     @Test
@@ -113,16 +98,15 @@ public class UsersPlaywrightTest extends BaseApiTest {
         APIResponse resp = request.get("/usuarios");
         assertEquals(200, resp.status());
 
-        Map<String, Object> body = objectMapper.readValue(resp.body(), Map.class);
-        List<Map<String, Object>> usuarios = (List<Map<String, Object>>) body.get("usuarios");
+        List<User> usuarios = read(resp, UserList.class).usuarios();
 
-        List<Map<String, Object>> admins = usuarios.stream()
-                .filter(u -> "true".equals(u.get("administrador")))
+        List<User> admins = usuarios.stream()
+                .filter(u -> "true".equals(u.administrador()))
                 .toList();
         assertTrue(admins.size() > 0, "There should be at least one admin user");
 
-        for (Map<String, Object> user : usuarios) {
-            assertNotNull(user.get("email"));
+        for (User user : usuarios) {
+            assertNotNull(user.email());
         }
     }
 
@@ -131,35 +115,25 @@ public class UsersPlaywrightTest extends BaseApiTest {
     void ct05_duplicateEmailValidation() throws Exception {
         String duplicateEmail = FakerUtils.randomEmail();
 
-        String user1 = String.format("""
-                {
-                  "nome": "User 1",
-                  "email": "%s",
-                  "password": "senha123",
-                  "administrador": "false"
-                }""", duplicateEmail);
+        byte[] user1 = buildJson("nome", "User 1", "email", duplicateEmail,
+                "password", "senha123", "administrador", "false");
 
         APIResponse first = request.post("/usuarios", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
                 .setData(user1));
         assertEquals(201, first.status());
 
-        String user2 = String.format("""
-                {
-                  "nome": "User 2",
-                  "email": "%s",
-                  "password": "anotherpassword",
-                  "administrador": "true"
-                }""", duplicateEmail);
+        byte[] user2 = buildJson("nome", "User 2", "email", duplicateEmail,
+                "password", "anotherpassword", "administrador", "true");
 
         APIResponse second = request.post("/usuarios", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
                 .setData(user2));
 
         assertEquals(400, second.status());
-        Map<String, Object> secondBody = objectMapper.readValue(second.body(), Map.class);
-        assertEquals("Este email já está sendo usado", secondBody.get("message"));
-        assertNotNull(secondBody.get("message"));
+        Message secondBody = read(second, Message.class);
+        assertEquals("Este email já está sendo usado", secondBody.message());
+        assertNotNull(secondBody.message());
     }
 
     @Test
@@ -169,15 +143,13 @@ public class UsersPlaywrightTest extends BaseApiTest {
 
         assertEquals(200, resp.status());
 
-        Map<String, Object> body = objectMapper.readValue(resp.body(), Map.class);
-        int quantidade = (int) body.get("quantidade");
-        List<Map<String, Object>> usuarios = (List<Map<String, Object>>) body.get("usuarios");
+        UserList body = read(resp, UserList.class);
 
-        assertTrue(quantidade >= 0);
-        for (Map<String, Object> user : usuarios) {
-            assertNotNull(user.get("nome"));
-            assertNotNull(user.get("email"));
-            assertEquals("true", String.valueOf(user.get("administrador")));
+        assertTrue(body.quantidade() >= 0);
+        for (User user : body.usuarios()) {
+            assertNotNull(user.nome());
+            assertNotNull(user.email());
+            assertEquals("true", user.administrador());
         }
     }
 
@@ -187,15 +159,12 @@ public class UsersPlaywrightTest extends BaseApiTest {
         APIResponse resp = request.get("/usuarios");
         assertEquals(200, resp.status());
 
-        Map<String, Object> body = objectMapper.readValue(resp.body(), Map.class);
-        List<Map<String, Object>> usuarios = (List<Map<String, Object>>) body.get("usuarios");
-
-        Map<String, Object> user = usuarios.get(0);
-        String adminFlag = String.valueOf(user.get("administrador"));
+        User user = read(resp, UserList.class).usuarios().get(0);
+        String adminFlag = user.administrador();
         assertTrue("true".equals(adminFlag) || "false".equals(adminFlag));
 
-        String email = (String) user.get("email");
-        String password = (String) user.get("password");
+        String email = user.email();
+        String password = user.password();
         assertTrue(email != null && email.length() > 5);
         assertTrue(password != null && !password.isEmpty());
     }
@@ -203,36 +172,31 @@ public class UsersPlaywrightTest extends BaseApiTest {
     @Test
     @DisplayName("CT08 - Validate formats with regular expressions")
     void ct08_validateFormatsWithRegularExpressions() throws Exception {
-        String newEmail = "test.regex." + System.currentTimeMillis() + "@example.com";
+        String newEmail = "test.regex." + FakerUtils.uniqueToken() + "@example.com";
 
-        String userData = String.format("""
-                {
-                  "nome": "Regex Test",
-                  "email": "%s",
-                  "password": "StrongPassword@123",
-                  "administrador": "false"
-                }""", newEmail);
+        byte[] userData = buildJson("nome", "Regex Test", "email", newEmail,
+                "password", "StrongPassword@123", "administrador", "false");
 
         APIResponse createResp = request.post("/usuarios", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
                 .setData(userData));
         assertEquals(201, createResp.status());
 
-        Map<String, Object> createBody = objectMapper.readValue(createResp.body(), Map.class);
-        String userId = (String) createBody.get("_id");
+        Message createBody = read(createResp, Message.class);
+        String userId = createBody.id();
 
         APIResponse getResp = request.get("/usuarios/" + userId);
         assertEquals(200, getResp.status());
 
-        Map<String, Object> user = objectMapper.readValue(getResp.body(), Map.class);
+        User user = read(getResp, User.class);
 
-        String email = (String) user.get("email");
-        String nome = (String) user.get("nome");
-        String id = (String) user.get("_id");
+        String email = user.email();
+        String nome = user.nome();
+        String id = user.id();
 
-        assertTrue(email.matches(".+@.+\\..+"), "Email should match email pattern");
-        assertTrue(nome.matches("[A-Za-z\\s]+"), "Name should contain only letters and spaces");
-        assertTrue(id.matches("[A-Za-z0-9]+"), "ID should be alphanumeric");
+        FieldFormats.EMAIL.assertValid(email);
+        FieldFormats.PERSON_NAME.assertValid(nome);
+        FieldFormats.ID.assertValid(id);
     }
 
     @Test
@@ -241,7 +205,7 @@ public class UsersPlaywrightTest extends BaseApiTest {
         APIResponse resp = request.get("/usuarios");
         assertEquals(200, resp.status());
 
-        Map<String, Object> body = objectMapper.readValue(resp.body(), Map.class);
+        Map<String, Object> body = parseResponseBody(resp);
         assertNull(body.get("error"));
         assertNull(body.get("errorMessage"));
 
@@ -268,13 +232,12 @@ public class UsersPlaywrightTest extends BaseApiTest {
         APIResponse searchResp = request.get("/usuarios?email=" + expectedEmail);
         assertEquals(200, searchResp.status());
 
-        Map<String, Object> searchBody = objectMapper.readValue(searchResp.body(), Map.class);
-        List<Map<String, Object>> usuarios = (List<Map<String, Object>>) searchBody.get("usuarios");
+        List<User> usuarios = read(searchResp, UserList.class).usuarios();
 
         assertFalse(usuarios.isEmpty(), "Should find the created user");
-        Map<String, Object> foundUser = usuarios.get(0);
-        assertEquals(expectedEmail, foundUser.get("email"));
-        assertNotNull(foundUser.get("nome"));
+        User foundUser = usuarios.get(0);
+        assertEquals(expectedEmail, foundUser.email());
+        assertNotNull(foundUser.nome());
     }
 
     @Test
@@ -282,22 +245,17 @@ public class UsersPlaywrightTest extends BaseApiTest {
     void ct11_prepareDataForNestedObjectValidation() throws Exception {
         String complexEmail = FakerUtils.randomEmail();
 
-        String complexData = String.format("""
-                {
-                  "nome": "Complex User",
-                  "email": "%s",
-                  "password": "senha123",
-                  "administrador": "true"
-                }""", complexEmail);
+        byte[] complexData = buildJson("nome", "Complex User", "email", complexEmail,
+                "password", "senha123", "administrador", "true");
 
         APIResponse resp = request.post("/usuarios", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
                 .setData(complexData));
         assertEquals(201, resp.status());
 
-        Map<String, Object> body = objectMapper.readValue(resp.body(), Map.class);
-        String message = (String) body.get("message");
-        String id = (String) body.get("_id");
+        Message body = read(resp, Message.class);
+        String message = body.message();
+        String id = body.id();
 
         assertNotNull(message);
         assertEquals("Cadastro realizado com sucesso", message);
@@ -316,9 +274,9 @@ public class UsersPlaywrightTest extends BaseApiTest {
                 .setData(objectMapper.writeValueAsString(userPayload)));
 
         assertEquals(201, resp.status());
-        Map<String, Object> body = objectMapper.readValue(resp.body(), Map.class);
-        assertEquals("Cadastro realizado com sucesso", body.get("message"));
-        assertNotNull(body.get("_id"));
+        Message body = read(resp, Message.class);
+        assertEquals("Cadastro realizado com sucesso", body.message());
+        assertNotNull(body.id());
     }
 
     @Test
@@ -333,19 +291,19 @@ public class UsersPlaywrightTest extends BaseApiTest {
                 .setData(objectMapper.writeValueAsString(userPayload)));
         assertEquals(201, createResp.status());
 
-        Map<String, Object> createBody = objectMapper.readValue(createResp.body(), Map.class);
-        assertEquals("Cadastro realizado com sucesso", createBody.get("message"));
-        String userId = (String) createBody.get("_id");
+        Message createBody = read(createResp, Message.class);
+        assertEquals("Cadastro realizado com sucesso", createBody.message());
+        String userId = createBody.id();
 
         APIResponse deleteResp = request.delete("/usuarios/" + userId);
         assertEquals(200, deleteResp.status());
-        Map<String, Object> deleteBody = objectMapper.readValue(deleteResp.body(), Map.class);
-        assertEquals("Registro excluído com sucesso", deleteBody.get("message"));
+        Message deleteBody = read(deleteResp, Message.class);
+        assertEquals("Registro excluído com sucesso", deleteBody.message());
 
         APIResponse searchResp = request.get("/usuarios?email=" + expectedEmail);
         assertEquals(200, searchResp.status());
-        Map<String, Object> searchBody = objectMapper.readValue(searchResp.body(), Map.class);
-        assertEquals(0, searchBody.get("quantidade"));
+        UserList searchBody = read(searchResp, UserList.class);
+        assertEquals(0, searchBody.quantidade());
     }
 
     @Test
@@ -354,40 +312,30 @@ public class UsersPlaywrightTest extends BaseApiTest {
         String userEmail = FakerUtils.randomEmail();
         String userPassword = "SenhaSegura@123";
 
-        String userData = String.format("""
-                {
-                  "nome": "User With Cart",
-                  "email": "%s",
-                  "password": "%s",
-                  "administrador": "true"
-                }""", userEmail, userPassword);
+        byte[] userData = buildJson("nome", "User With Cart", "email", userEmail,
+                "password", userPassword, "administrador", "true");
 
         APIResponse createUserResp = request.post("/usuarios", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
                 .setData(userData));
         assertEquals(201, createUserResp.status());
 
-        Map<String, Object> createUserBody = objectMapper.readValue(createUserResp.body(), Map.class);
-        assertEquals("Cadastro realizado com sucesso", createUserBody.get("message"));
-        String userId = (String) createUserBody.get("_id");
+        Message createUserBody = read(createUserResp, Message.class);
+        assertEquals("Cadastro realizado com sucesso", createUserBody.message());
+        String userId = createUserBody.id();
 
-        String loginPayload = String.format("{\"email\": \"%s\", \"password\": \"%s\"}", userEmail, userPassword);
+        byte[] loginPayload = buildJson("email", userEmail, "password", userPassword);
         APIResponse loginResp = request.post("/login", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
                 .setData(loginPayload));
         assertEquals(200, loginResp.status());
 
-        Map<String, Object> loginBody = objectMapper.readValue(loginResp.body(), Map.class);
-        String userToken = (String) loginBody.get("authorization");
+        Message loginBody = read(loginResp, Message.class);
+        String userToken = loginBody.authorization();
 
-        String productName = "Product for user cart " + System.currentTimeMillis();
-        String productData = String.format("""
-                {
-                  "nome": "%s",
-                  "preco": 100,
-                  "descricao": "Product associated to user cart",
-                  "quantidade": 5
-                }""", productName);
+        String productName = "Product for user cart " + FakerUtils.uniqueToken();
+        byte[] productData = buildJson("nome", productName, "preco", 100,
+                "descricao", "Product associated to user cart", "quantidade", 5);
 
         APIResponse productResp = request.post("/produtos", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
@@ -395,15 +343,15 @@ public class UsersPlaywrightTest extends BaseApiTest {
                 .setData(productData));
         assertEquals(201, productResp.status());
 
-        Map<String, Object> productBody = objectMapper.readValue(productResp.body(), Map.class);
-        String productId = (String) productBody.get("_id");
+        Message productBody = read(productResp, Message.class);
+        String productId = productBody.id();
 
         // Cancel any existing cart
         request.delete("/carrinhos/cancelar-compra", RequestOptions.create()
                 .setHeader("Authorization", userToken));
 
         // Create cart
-        String cartBody = String.format("{\"produtos\": [{\"idProduto\": \"%s\", \"quantidade\": 1}]}", productId);
+        byte[] cartBody = JsonBody.object().produto(productId, 1).toBytes();
         APIResponse cartResp = request.post("/carrinhos", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
                 .setHeader("Authorization", userToken)
@@ -414,9 +362,9 @@ public class UsersPlaywrightTest extends BaseApiTest {
         APIResponse deleteResp = request.delete("/usuarios/" + userId);
         assertEquals(400, deleteResp.status());
 
-        Map<String, Object> deleteBody = objectMapper.readValue(deleteResp.body(), Map.class);
-        assertEquals("Não é permitido excluir usuário com carrinho cadastrado", deleteBody.get("message"));
-        assertNotNull(deleteBody.get("idCarrinho"));
+        Message deleteBody = read(deleteResp, Message.class);
+        assertEquals("Não é permitido excluir usuário com carrinho cadastrado", deleteBody.message());
+        assertNotNull(deleteBody.idCarrinho());
     }
 
     @Test
@@ -425,8 +373,8 @@ public class UsersPlaywrightTest extends BaseApiTest {
         APIResponse resp = request.get("/usuarios/3F7K9P2XQ8M1R6TB");
         assertEquals(400, resp.status());
 
-        Map<String, Object> body = objectMapper.readValue(resp.body(), Map.class);
-        assertEquals("Usuário não encontrado", body.get("message"));
+        Message body = read(resp, Message.class);
+        assertEquals("Usuário não encontrado", body.message());
     }
 
     @Test
@@ -435,48 +383,32 @@ public class UsersPlaywrightTest extends BaseApiTest {
         String email1 = FakerUtils.randomEmail();
         String email2 = FakerUtils.randomEmail();
 
-        String user1 = String.format("""
-                {
-                  "nome": "User One",
-                  "email": "%s",
-                  "password": "Senha123@",
-                  "administrador": "false"
-                }""", email1);
-
-        String user2 = String.format("""
-                {
-                  "nome": "User Two",
-                  "email": "%s",
-                  "password": "Senha456@",
-                  "administrador": "true"
-                }""", email2);
+        byte[] user1 = buildJson("nome", "User One", "email", email1,
+                "password", "Senha123@", "administrador", "false");
+
+        byte[] user2 = buildJson("nome", "User Two", "email", email2, "password", "Senha456@", "administrador", "true");
 
         APIResponse createUser1Resp = request.post("/usuarios", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
                 .setData(user1));
         assertEquals(201, createUser1Resp.status());
 
-        Map<String, Object> createUser1Body = objectMapper.readValue(createUser1Resp.body(), Map.class);
-        String userId1 = (String) createUser1Body.get("_id");
+        Message createUser1Body = read(createUser1Resp, Message.class);
+        String userId1 = createUser1Body.id();
 
         request.post("/usuarios", RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
                 .setData(user2));
 
-        String updatePayload = String.format("""
-                {
-                  "nome": "User One Updated",
-                  "email": "%s",
-                  "password": "Senha123@",
-                  "administrador": "true"
-                }""", email2);
+        byte[] updatePayload = buildJson("nome", "User One Updated", "email", email2,
+                "password", "Senha123@", "administrador", "true");
 
         APIResponse updateResp = request.put("/usuarios/" + userId1, RequestOptions.create()
                 .setHeader("Content-Type", "application/json")
                 .setData(updatePayload));
 
         assertEquals(400, updateResp.status());
-        Map<String, Object> updateBody = objectMapper.readValue(updateResp.body(), Map.class);
-        assertEquals("Este email já está sendo usado", updateBody.get("message"));
+        Message updateBody = read(updateResp, Message.class);
+        assertEquals("Este email já está sendo usado", updateBody.message());
     }
 }
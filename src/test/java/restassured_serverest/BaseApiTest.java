@@ -1,19 +1,79 @@
 package restassured_serverest;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.extension.ExtendWith;
 
-import io.qameta.allure.restassured.AllureRestAssured;
+import common_serverest.ServeRestEnvironment;
+import common_serverest.auth.TokenProvider;
+import common_serverest.auth.TokenProvider.Role;
+import common_serverest.data.SeededDataExtension;
+import common_serverest.junit.ClassConcurrencyLimit;
+import common_serverest.json.JsonView;
 import io.restassured.RestAssured;
+import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import restassured_serverest.allure.AllureCapture;
+import restassured_serverest.allure.AllureCaptureExtension;
+import restassured_serverest.http.PooledHttpClient;
 
+@ExtendWith({ SeededDataExtension.class, AllureCaptureExtension.class, ClassConcurrencyLimit.class })
 public abstract class BaseApiTest {
 
+    private record Parsed(Response response, JsonView view) {
+    }
+
+    /**
+     * Last response parsed on this thread, so chained json(response).path(...) calls parse once;
+     * cleared after each test so pooled workers do not keep it alive.
+     */
+    private static final ThreadLocal<Parsed> LAST_PARSED = new ThreadLocal<>();
+
+    /**
+     * New request on the shared spec: base URI, Allure capture (failed tests only by default,
+     * see {@link AllureCapture}) and the pooled keep-alive client (see {@link PooledHttpClient}).
+     */
     protected RequestSpecification givenWithAllure() {
-        return RestAssured.given().filter(new AllureRestAssured());
+        return RestAssured.given().spec(PooledHttpClient.instance().spec());
+    }
+
+    /**
+     * Cached admin bearer token shared by all test classes (see {@link TokenProvider}).
+     */
+    protected String adminToken() {
+        return TokenProvider.shared().token(Role.ADMIN);
+    }
+
+    /**
+     * Cached non-admin bearer token shared by all test classes.
+     */
+    protected String userToken() {
+        return TokenProvider.shared().token(Role.USER);
+    }
+
+    /**
+     * Jackson view of the response body for field extraction, in place of the Groovy-backed
+     * {@code response.path(...)}: {@code json(response).path("usuarios[0]._id")}. The body is
+     * parsed once and expressions are compiled once (see {@link JsonView}).
+     */
+    protected JsonView json(Response response) {
+        Parsed last = LAST_PARSED.get();
+        if (last != null && last.response() == response) {
+            return last.view();
+        }
+        JsonView view = JsonView.parse(response.asByteArray());
+        LAST_PARSED.set(new Parsed(response, view));
+        return view;
+    }
+
+    @AfterEach
+    void forgetParsedResponse() {
+        LAST_PARSED.remove();
     }
 
     @BeforeAll
     static void setupRestAssured() {
-        RestAssured.baseURI = "https://serverest.dev";
+        RestAssured.baseURI = ServeRestEnvironment.baseUrl();
+        RestAssured.config = PooledHttpClient.instance().config();
     }
 }
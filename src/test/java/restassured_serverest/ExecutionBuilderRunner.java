@@ -21,7 +21,16 @@ import org.junit.platform.suite.api.SuiteDisplayName;
     restassured_serverest.carrinhos.CartsRestAssuredTest.class
 })
 
-@ConfigurationParameter(key = "junit.jupiter.execution.parallel.config.strategy", value = "fixed")
-@ConfigurationParameter(key = "junit.jupiter.execution.parallel.config.fixed.parallelism", value = "4")
+// testes limitados pela rede, não pela CPU: o limite global de junit-platform.properties (ver NetworkBoundParallelism)
+@ConfigurationParameter(key = "junit.jupiter.execution.parallel.config.strategy", value = "custom")
+@ConfigurationParameter(key = "junit.jupiter.execution.parallel.config.custom.class",
+        value = "common_serverest.junit.NetworkBoundParallelism")
+// carrinhos: no máximo o tamanho do FixturePool, para os leases virem do pool
+@ConfigurationParameter(key = "serverest.concurrency.CartsRestAssuredTest", value = "8")
+// classes e métodos mais longos primeiro, pelas durações das execuções anteriores (DurationStore)
+@ConfigurationParameter(key = "junit.jupiter.testclass.order.default",
+        value = "common_serverest.timing.LongestFirstClassOrderer")
+@ConfigurationParameter(key = "junit.jupiter.testmethod.order.default",
+        value = "common_serverest.timing.LongestFirstMethodOrderer")
 public class ExecutionBuilderRunner {
 }
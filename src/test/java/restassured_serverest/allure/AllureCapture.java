@@ -0,0 +1,153 @@
+package restassured_serverest.allure;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.restassured.AllureRestAssured;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Allure capture of RestAssured exchanges, selected with {@code -Dserverest.allure.capture}:
+ * <ul>
+ * <li>{@code failures} (default) - the last {@code serverest.allure.capture.maxExchanges} (20)
+ * exchanges of each test are kept in a ring, with bodies cut at
+ * {@code serverest.allure.capture.maxBodyChars} (8192), and attached only when the test fails,
+ * plus {@code serverest.allure.capture.samplePercent} (0) percent of passing tests;</li>
+ * <li>{@code all} - the full {@link AllureRestAssured} attachments for every request.</li>
+ * </ul>
+ * The ring is per thread and is opened and flushed by {@link AllureCaptureExtension}. It keeps
+ * references to the raw exchange (headers and body bytes); the text is only rendered for the
+ * tests that get attached.
+ */
+public final class AllureCapture implements Filter {
+
+    public static final boolean CAPTURE_ALL =
+            "all".equalsIgnoreCase(System.getProperty("serverest.allure.capture", "failures"));
+    static final int MAX_EXCHANGES = Integer.getInteger("serverest.allure.capture.maxExchanges", 20);
+    static final int MAX_BODY_CHARS = Integer.getInteger("serverest.allure.capture.maxBodyChars", 8192);
+    static final double SAMPLE_PERCENT = Double.parseDouble(
+            System.getProperty("serverest.allure.capture.samplePercent", "0"));
+
+    private static final ThreadLocal<ArrayDeque<Exchange>> RING = new ThreadLocal<>();
+
+    /**
+     * One request and its response, as RestAssured already holds them.
+     */
+    private record Exchange(String method, String uri, int status, long millis, Headers requestHeaders,
+            Object requestBody, Headers responseHeaders, byte[] responseBody) {
+
+        String title() {
+            return method + ' ' + uri + " -> " + status + " (" + millis + " ms)";
+        }
+    }
+
+    private AllureCapture() {
+    }
+
+    /**
+     * The filter to install for the configured mode.
+     */
+    public static Filter filter() {
+        return CAPTURE_ALL ? new AllureRestAssured() : new AllureCapture();
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification request, FilterableResponseSpecification responseSpec,
+            FilterContext context) {
+        Response response = context.next(request, responseSpec);
+        ArrayDeque<Exchange> ring = RING.get();
+        if (ring != null) {
+            if (ring.size() == MAX_EXCHANGES) {
+                ring.removeFirst();
+            }
+            // the response body is already buffered by RestAssured, this only keeps the reference
+            ring.addLast(new Exchange(request.getMethod(), request.getURI(), response.getStatusCode(),
+                    response.getTime(), request.getHeaders(), request.getBody(), response.getHeaders(),
+                    response.asByteArray()));
+        }
+        return response;
+    }
+
+    /**
+     * Starts buffering the calling thread's exchanges, dropping any left from a previous test.
+     */
+    static void begin() {
+        if (!CAPTURE_ALL) {
+            RING.set(new ArrayDeque<>(MAX_EXCHANGES));
+        }
+    }
+
+    /**
+     * Attaches the buffered exchanges if the test failed or was sampled, then stops buffering.
+     */
+    static void end(boolean failed) {
+        ArrayDeque<Exchange> ring = RING.get();
+        RING.remove();
+        if (ring == null || ring.isEmpty()) {
+            return;
+        }
+        if (!failed && ThreadLocalRandom.current().nextDouble(100) >= SAMPLE_PERCENT) {
+            return;
+        }
+        int index = 1;
+        for (Exchange exchange : ring) {
+            Allure.addAttachment(String.format(Locale.ROOT, "%02d %s", index++, exchange.title()), "text/plain",
+                    render(exchange), ".txt");
+        }
+    }
+
+    private static String render(Exchange exchange) {
+        StringBuilder text = new StringBuilder(512);
+        text.append(exchange.title()).append("\n\n");
+        text.append("Request headers:\n");
+        appendHeaders(text, exchange.requestHeaders());
+        text.append("\nRequest body:\n");
+        appendBody(text, exchange.requestBody());
+        text.append("\n\nResponse headers:\n");
+        appendHeaders(text, exchange.responseHeaders());
+        text.append("\nResponse body:\n");
+        appendBody(text, exchange.responseBody());
+        return text.toString();
+    }
+
+    private static void appendHeaders(StringBuilder text, Headers headers) {
+        for (Header header : headers) {
+            text.append("  ").append(header.getName()).append(": ").append(header.getValue()).append('\n');
+        }
+    }
+
+    private static void appendBody(StringBuilder text, Object body) {
+        if (body == null) {
+            text.append("(none)");
+            return;
+        }
+        if (body instanceof byte[] bytes) {
+            int shown = Math.min(bytes.length, MAX_BODY_CHARS);
+            // back up to the start of a UTF-8 sequence rather than cut a character in half
+            while (shown > 0 && shown < bytes.length && (bytes[shown] & 0xC0) == 0x80) {
+                shown--;
+            }
+            text.append(new String(bytes, 0, shown, StandardCharsets.UTF_8));
+            if (shown < bytes.length) {
+                text.append("... [").append(bytes.length - shown).append(" more bytes]");
+            }
+            return;
+        }
+        String value = body.toString();
+        if (value.length() > MAX_BODY_CHARS) {
+            int shown = Character.isHighSurrogate(value.charAt(MAX_BODY_CHARS - 1)) ? MAX_BODY_CHARS - 1 : MAX_BODY_CHARS;
+            text.append(value, 0, shown).append("... [").append(value.length() - shown).append(" more chars]");
+        } else {
+            text.append(value);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package restassured_serverest.allure;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Opens the {@link AllureCapture} ring before each test and attaches it to the Allure
+ * result only when the test failed (or was sampled), while the test case is still open.
+ */
+public class AllureCaptureExtension implements BeforeEachCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        AllureCapture.begin();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        AllureCapture.end(context.getExecutionException().isPresent());
+    }
+}
@@ -0,0 +1,26 @@
+package restassured_serverest.http;
+
+import common_serverest.http.AdaptiveLimit;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Sends RestAssured requests through the JVM-wide {@link AdaptiveLimit}: waits for a slot and
+ * reports the status (or the failure) back to it. Installed last in the shared spec of
+ * {@link PooledHttpClient}, so only the exchange itself holds the slot.
+ */
+public final class AdaptiveLimitFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification request, FilterableResponseSpecification responseSpec,
+            FilterContext context) {
+        try (AdaptiveLimit.Permit permit = AdaptiveLimit.shared().acquire()) {
+            Response response = context.next(request, responseSpec);
+            permit.complete(response.getStatusCode());
+            return response;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package restassured_serverest.http;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import common_serverest.ServeRestEnvironment;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.RequestSpecification;
+import restassured_serverest.allure.AllureCapture;
+
+/**
+ * One keep-alive Apache connection pool shared by every RestAssured request in the JVM.
+ *
+ * RestAssured's default builds a client and a connection manager per request, so each test pays
+ * a fresh TCP and TLS handshake. Here every request still gets its own thin
+ * {@link DefaultHttpClient}, because RestAssured rewrites the client it is given (it removes and
+ * re-adds the content-encoding interceptors and writes per-request params), but all of them lease
+ * connections from one pool. The pool is sized from {@link ServeRestEnvironment#parallelism()}
+ * ({@code -Dserverest.http.maxConnections} overrides it), idle connections are kept for
+ * {@code -Dserverest.http.keepAliveSeconds} (default 30, capped by the server's
+ * {@code Keep-Alive: timeout}) and a daemon thread evicts expired and idle ones.
+ *
+ * Every connection lease is counted by the pool as a new or a reused connection;
+ * {@link #stats()} reports the totals and is logged when the JVM exits.
+ */
+@SuppressWarnings("deprecation") // RestAssured drives the Apache 4.x AbstractHttpClient API
+public final class PooledHttpClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledHttpClient.class);
+
+    static final int MAX_CONNECTIONS = Integer.getInteger("serverest.http.maxConnections",
+            ServeRestEnvironment.parallelism() + 2);
+    static final long KEEP_ALIVE_MILLIS = TimeUnit.SECONDS.toMillis(
+            Long.getLong("serverest.http.keepAliveSeconds", 30));
+
+    private static final class Holder {
+        private static final PooledHttpClient INSTANCE = new PooledHttpClient();
+    }
+
+    private final CountingConnectionManager connections = new CountingConnectionManager();
+    private final ConnectionKeepAliveStrategy keepAlive = keepAlive();
+    private final RestAssuredConfig config;
+    private final RequestSpecification spec;
+
+    private PooledHttpClient() {
+        connections.setMaxTotal(MAX_CONNECTIONS);
+        connections.setDefaultMaxPerRoute(MAX_CONNECTIONS);
+
+        config = RestAssuredConfig.config().httpClient(HttpClientConfig.httpClientConfig()
+                .httpClientFactory(this::newClient));
+        spec = new RequestSpecBuilder()
+                .setConfig(config)
+                .setBaseUri(ServeRestEnvironment.baseUrl())
+                .addFilter(AllureCapture.filter())
+                .addFilter(new AdaptiveLimitFilter())
+                .build();
+
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "serverest-http-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(() -> {
+            connections.closeExpiredConnections();
+            connections.closeIdleConnections(KEEP_ALIVE_MILLIS, TimeUnit.MILLISECONDS);
+        }, 5, 5, TimeUnit.SECONDS);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> logger.info("restassured http: {}", stats()),
+                "serverest-http-report"));
+        logger.info("restassured http pool: {} connections, keep-alive {} ms", MAX_CONNECTIONS, KEEP_ALIVE_MILLIS);
+    }
+
+    public static PooledHttpClient instance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * RestAssured config that routes requests through the shared client.
+     */
+    public RestAssuredConfig config() {
+        return config;
+    }
+
+    /**
+     * Base URI, Allure filter, {@link AdaptiveLimitFilter} and the shared client, for {@code RestAssured.given().spec(...)}.
+     */
+    public RequestSpecification spec() {
+        return spec;
+    }
+
+    public long openedConnections() {
+        return connections.opened.sum();
+    }
+
+    public long reusedConnections() {
+        return connections.reused.sum();
+    }
+
+    /**
+     * e.g. {@code 412 requests, 9 new connections, 403 reused (97.8%), pool leased=0 available=9 max=14}.
+     */
+    public String stats() {
+        long fresh = connections.opened.sum();
+        long again = connections.reused.sum();
+        long total = fresh + again;
+        PoolStats pool = connections.getTotalStats();
+        return String.format("%d requests, %d new connections, %d reused (%.1f%%), pool leased=%d available=%d max=%d",
+                total, fresh, again, total == 0 ? 0.0 : again * 100.0 / total,
+                pool.getLeased(), pool.getAvailable(), pool.getMax());
+    }
+
+    /**
+     * A client of its own for one request, over the shared pool.
+     */
+    private DefaultHttpClient newClient() {
+        DefaultHttpClient client = new DefaultHttpClient(connections);
+        client.setKeepAliveStrategy(keepAlive);
+        return client;
+    }
+
+    /**
+     * Server's {@code Keep-Alive: timeout} minus a second (to avoid racing its close), at most
+     * {@link #KEEP_ALIVE_MILLIS}.
+     */
+    private static ConnectionKeepAliveStrategy keepAlive() {
+        DefaultConnectionKeepAliveStrategy server = DefaultConnectionKeepAliveStrategy.INSTANCE;
+        return (response, context) -> {
+            long advertised = server.getKeepAliveDuration(response, context);
+            if (advertised <= 0) {
+                return KEEP_ALIVE_MILLIS;
+            }
+            return Math.min(KEEP_ALIVE_MILLIS, Math.max(advertised - 1000, 500));
+        };
+    }
+
+    /**
+     * Counts each lease: a pooled connection is already open, a new one is opened after the lease.
+     */
+    private static final class CountingConnectionManager extends PoolingClientConnectionManager {
+
+        private final LongAdder opened = new LongAdder();
+        private final LongAdder reused = new LongAdder();
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            ClientConnectionRequest request = super.requestConnection(route, state);
+            return new ClientConnectionRequest() {
+
+                @Override
+                public ManagedClientConnection getConnection(long timeout, TimeUnit unit)
+                        throws InterruptedException, ConnectionPoolTimeoutException {
+                    ManagedClientConnection connection = request.getConnection(timeout, unit);
+                    (connection.isOpen() ? reused : opened).increment();
+                    return connection;
+                }
+
+                @Override
+                public void abortRequest() {
+                    request.abortRequest();
+                }
+            };
+        }
+    }
+}
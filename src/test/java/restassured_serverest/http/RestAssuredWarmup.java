@@ -0,0 +1,44 @@
+package restassured_serverest.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import common_serverest.warmup.Warmup;
+import common_serverest.warmup.WarmupStep;
+import io.restassured.RestAssured;
+
+/**
+ * Fills the {@link PooledHttpClient} pool with open keep-alive connections before the tests.
+ *
+ * Uses the shared client config without the spec's filters: no test is running yet, so there
+ * is nothing to attach to Allure.
+ */
+public class RestAssuredWarmup implements WarmupStep {
+
+    @Override
+    public String name() {
+        return "restassured";
+    }
+
+    @Override
+    public String run(String baseUrl, int connections) throws Exception {
+        PooledHttpClient pooled = PooledHttpClient.instance();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < Math.min(connections, PooledHttpClient.MAX_CONNECTIONS); i++) {
+                statuses.add(executor.submit(() -> RestAssured.given()
+                        .config(pooled.config())
+                        .baseUri(baseUrl)
+                        .get(Warmup.PATH)
+                        .statusCode()));
+            }
+            for (Future<Integer> status : statuses) {
+                status.get();
+            }
+        }
+        return pooled.openedConnections() + " connections opened";
+    }
+}
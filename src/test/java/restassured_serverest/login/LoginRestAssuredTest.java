@@ -16,6 +16,7 @@ import org.junit.jupiter.params.provider.CsvFileSource;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import restassured_serverest.BaseApiTest;
+import restassured_serverest.payloads.Payloads;
 import restassured_serverest.utils.FakerUtils;
 
 @TestInstance(Lifecycle.PER_CLASS)
@@ -23,8 +24,7 @@ import restassured_serverest.utils.FakerUtils;
 public class LoginRestAssuredTest extends BaseApiTest {
 
     private Response createUser(String email, String password, boolean admin) {
-        String payload = String.format("{\n  \"nome\": \"%s\",\n  \"email\": \"%s\",\n  \"password\": \"%s\",\n  \"administrador\": \"%s\"\n}",
-                email, email, password, admin ? "true" : "false");
+        byte[] payload = Payloads.user(email, email, password, admin);
 
         return givenWithAllure()
                 .contentType(ContentType.JSON)
@@ -47,7 +47,7 @@ public class LoginRestAssuredTest extends BaseApiTest {
         givenWithAllure()
             .contentType(ContentType.JSON)
             .basePath("/login")
-            .body("{\"email\": \"" + email + "\", \"password\": \"" + password + "\"}")
+            .body(Payloads.login(email, password))
         .when()
             .post()
         .then()
@@ -128,7 +128,7 @@ public class LoginRestAssuredTest extends BaseApiTest {
             givenWithAllure()
                 .contentType(ContentType.JSON)
                 .basePath("/login")
-                .body("{\"email\": \"" + userEmail + "\", \"password\": \"" + userPassword + "\"}")
+                .body(Payloads.login(userEmail, userPassword))
             .when()
                 .post()
             .then()
@@ -136,12 +136,11 @@ public class LoginRestAssuredTest extends BaseApiTest {
                 .body("message", equalTo("Login realizado com sucesso"))
                 .extract().response();
 
-        String authToken = loginResponse.path("authorization");
+        String authToken = json(loginResponse).path("authorization");
 
         // Tenta acessar rota protegida de criação de produto
         String productName = FakerUtils.randomProduct();
-        String productPayload = String.format("{\n  \"nome\": \"%s\",\n  \"preco\": 100,\n  \"descricao\": \"Produto gerado com Faker para teste de autenticacao\",\n  \"quantidade\": 10\n}",
-                productName);
+        byte[] productPayload = Payloads.product(productName, 100, "Produto gerado com Faker para teste de autenticacao", 10);
 
         givenWithAllure()
             .contentType(ContentType.JSON)
@@ -163,7 +162,7 @@ public class LoginRestAssuredTest extends BaseApiTest {
         givenWithAllure()
             .contentType(ContentType.JSON)
             .basePath("/login")
-            .body("{\"email\": \"" + invalidEmail + "\", \"password\": \"senha123\"}")
+            .body(Payloads.login(invalidEmail, "senha123"))
         .when()
             .post()
         .then()
@@ -0,0 +1,43 @@
+package restassured_serverest.payloads;
+
+import common_serverest.json.JsonTemplate;
+
+/**
+ * Request bodies used by the RestAssured suite, compiled once from the JSON templates
+ * in this package (see {@link JsonTemplate} for the placeholder syntax).
+ */
+public final class Payloads {
+
+    private static final String DIR = "restassured_serverest/payloads/";
+
+    /** nome, email, password, administrador ("true"/"false"). */
+    public static final JsonTemplate USER = JsonTemplate.fromClasspath(DIR + "user.json");
+    /** email, password. */
+    public static final JsonTemplate LOGIN = JsonTemplate.fromClasspath(DIR + "login.json");
+    /** nome, preco, descricao, quantidade. */
+    public static final JsonTemplate PRODUCT = JsonTemplate.fromClasspath(DIR + "product.json");
+    /** idProduto, quantidade. */
+    public static final JsonTemplate CART = JsonTemplate.fromClasspath(DIR + "cart.json");
+    /** idProduto, quantidade, segundoIdProduto, segundaQuantidade. */
+    public static final JsonTemplate CART_TWO_ITEMS = JsonTemplate.fromClasspath(DIR + "cart-two-items.json");
+
+    private Payloads() {
+    }
+
+    public static byte[] user(String nome, String email, String password, boolean administrador) {
+        return USER.render("nome", nome, "email", email, "password", password,
+                "administrador", String.valueOf(administrador));
+    }
+
+    public static byte[] login(String email, String password) {
+        return LOGIN.render("email", email, "password", password);
+    }
+
+    public static byte[] product(String nome, int preco, String descricao, int quantidade) {
+        return PRODUCT.render("nome", nome, "preco", preco, "descricao", descricao, "quantidade", quantidade);
+    }
+
+    public static byte[] cart(String idProduto, int quantidade) {
+        return CART.render("idProduto", idProduto, "quantidade", quantidade);
+    }
+}
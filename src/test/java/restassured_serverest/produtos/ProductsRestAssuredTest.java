@@ -5,7 +5,6 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
@@ -13,7 +12,6 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
-import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.notNullValue;
 import org.junit.jupiter.api.DisplayName;
@@ -25,71 +23,42 @@ import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import common_serverest.json.StreamingListValidator;
 import io.restassured.http.ContentType;
 import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
 import restassured_serverest.BaseApiTest;
+import restassured_serverest.payloads.Payloads;
+import restassured_serverest.utils.FakerUtils;
 
 @TestInstance(Lifecycle.PER_CLASS)
 @Execution(ExecutionMode.CONCURRENT)
 public class ProductsRestAssuredTest extends BaseApiTest {
 
-    private String getAdminToken() {
-        String email = "admin." + UUID.randomUUID() + "@example.com";
-        String password = "SenhaSegura@123";
-
-        String userPayload = String.format("{\n  \"nome\": \"Admin User\",\n  \"email\": \"%s\",\n  \"password\": \"%s\",\n  \"administrador\": \"true\"\n}",
-                email, password);
-
-        givenWithAllure()
-            .contentType(ContentType.JSON)
-            .basePath("/usuarios")
-            .body(userPayload)
-        .when()
-            .post()
-        .then()
-            .statusCode(201);
-
-        Response loginResponse =
+    @Test
+    @DisplayName("CT01 - List all products and validate JSON structure")
+    void ct01_listProducts() {
+        byte[] body =
             givenWithAllure()
-                .contentType(ContentType.JSON)
-                .basePath("/login")
-                .body("{\"email\": \"" + email + "\", \"password\": \"" + password + "\"}")
+                .basePath("/produtos")
             .when()
-                .post()
+                .get()
             .then()
                 .statusCode(200)
-                .extract().response();
+                .body("quantidade", greaterThanOrEqualTo(0))
+                .extract().asByteArray();
 
-        return loginResponse.path("authorization");
-    }
-
-    @Test
-    @DisplayName("CT01 - List all products and validate JSON structure")
-    void ct01_listProducts() {
-        givenWithAllure()
-            .basePath("/produtos")
-        .when()
-            .get()
-        .then()
-            .statusCode(200)
-            .body("quantidade", greaterThanOrEqualTo(0))
-            .body("produtos", notNullValue())
-            .body("produtos", everyItem(hasKey("nome")))
-            .body("produtos", everyItem(hasKey("preco")))
-            .body("produtos", everyItem(hasKey("descricao")))
-            .body("produtos", everyItem(hasKey("quantidade")))
-            .body("produtos", everyItem(hasKey("_id")));
+        StreamingListValidator.Result produtos = StreamingListValidator.products().validate(body);
+        assertThat(produtos.violations().toString(), produtos.valid(), equalTo(true));
     }
 
     @Test
     @DisplayName("CT02 - Create a new product as an administrator")
     void ct02_createProductAsAdmin() {
-        String token = getAdminToken();
-        String productName = "Product " + System.currentTimeMillis();
+        String token = adminToken();
+        String productName = "Product " + FakerUtils.uniqueToken();
 
-        String productPayload = String.format("{\n  \"nome\": \"%s\",\n  \"preco\": 250,\n  \"descricao\": \"Automated test product\",\n  \"quantidade\": 100\n}",
-                productName);
+        byte[] productPayload = Payloads.product(productName, 250, "Automated test product", 100);
 
         Response createResponse =
             givenWithAllure()
@@ -105,7 +74,7 @@ public class ProductsRestAssuredTest extends BaseApiTest {
                 .body("_id", notNullValue())
                 .extract().response();
 
-        String productId = createResponse.path("_id");
+        String productId = json(createResponse).path("_id");
 
         givenWithAllure()
             .basePath("/produtos/" + productId)
@@ -121,11 +90,10 @@ public class ProductsRestAssuredTest extends BaseApiTest {
     @Test
     @DisplayName("CT03 - Validate error when creating a product with a duplicate name")
     void ct03_duplicateProductName() {
-        String token = getAdminToken();
-        String name = "Duplicate Product Test " + System.currentTimeMillis();
+        String token = adminToken();
+        String name = "Duplicate Product Test " + FakerUtils.uniqueToken();
 
-        String productPayload = String.format("{\n  \"nome\": \"%s\",\n  \"preco\": 150,\n  \"descricao\": \"First product\",\n  \"quantidade\": 50\n}",
-                name);
+        byte[] productPayload = Payloads.product(name, 150, "First product", 50);
 
         givenWithAllure()
             .contentType(ContentType.JSON)
@@ -162,7 +130,7 @@ public class ProductsRestAssuredTest extends BaseApiTest {
                 .statusCode(200)
                 .extract().response();
 
-        List<String> names = response.path("produtos.nome");
+        List<String> names = json(response).path("produtos.nome");
         if (names != null && !names.isEmpty()) {
             assertThat(names, everyItem(containsString("Logitech")));
         }
@@ -179,11 +147,10 @@ public class ProductsRestAssuredTest extends BaseApiTest {
     @Test
     @DisplayName("CT05 - Update information of an existing product")
     void ct05_updateExistingProduct() {
-        String token = getAdminToken();
-        String productName = "Product " + System.currentTimeMillis();
+        String token = adminToken();
+        String productName = "Product " + FakerUtils.uniqueToken();
 
-        String initialProduct = String.format("{\n  \"nome\": \"%s\",\n  \"preco\": 100,\n  \"descricao\": \"Original description\",\n  \"quantidade\": 50\n}",
-                productName);
+        byte[] initialProduct = Payloads.product(productName, 100, "Original description", 50);
 
         Response createResponse =
             givenWithAllure()
@@ -197,10 +164,9 @@ public class ProductsRestAssuredTest extends BaseApiTest {
                 .statusCode(201)
                 .extract().response();
 
-        String productId = createResponse.path("_id");
+        String productId = json(createResponse).path("_id");
 
-        String updatedProduct = String.format("{\n  \"nome\": \"%s\",\n  \"preco\": 200,\n  \"descricao\": \"Updated description\",\n  \"quantidade\": 75\n}",
-                productName);
+        byte[] updatedProduct = Payloads.product(productName, 200, "Updated description", 75);
 
         givenWithAllure()
             .contentType(ContentType.JSON)
@@ -236,7 +202,7 @@ public class ProductsRestAssuredTest extends BaseApiTest {
                 .statusCode(200)
                 .extract().response();
 
-        List<Integer> prices = response.path("produtos.preco");
+        List<Integer> prices = json(response).path("produtos.preco");
         if (prices == null || prices.isEmpty()) {
             return;
         }
@@ -275,7 +241,7 @@ public class ProductsRestAssuredTest extends BaseApiTest {
     @ParameterizedTest(name = "CT08 - Validate required fields when creating a product")
     @ValueSource(ints = {1, 2, 3, 4})
     void ct08_validateRequiredFieldsWhenCreatingProduct(int numberField) {
-        String token = getAdminToken();
+        String token = adminToken();
         String payload = "";
         switch (numberField) {
             case 1 ->  payload = "{\"preco\": 0.55,\"descricao\": \"Test without price\",\"quantidade\": 10}";
@@ -309,7 +275,7 @@ public class ProductsRestAssuredTest extends BaseApiTest {
                 .statusCode(200)
                 .extract().response();
 
-        List<Map<String, Object>> products = response.path("produtos");
+        List<Map<String, Object>> products = json(response).path("produtos");
         if (products == null) {
             return;
         }
@@ -339,11 +305,10 @@ public class ProductsRestAssuredTest extends BaseApiTest {
     @Test
     @DisplayName("CT10 - Delete an existing product")
     void ct10_deleteExistingProduct() {
-        String token = getAdminToken();
-        String productName = "Product " + System.currentTimeMillis();
+        String token = adminToken();
+        String productName = "Product " + FakerUtils.uniqueToken();
 
-        String productPayload = String.format("{\n  \"nome\": \"%s\",\n  \"preco\": 100,\n  \"descricao\": \"Product to delete\",\n  \"quantidade\": 10\n}",
-                productName);
+        byte[] productPayload = Payloads.product(productName, 100, "Product to delete", 10);
 
         Response createResponse =
             givenWithAllure()
@@ -357,7 +322,7 @@ public class ProductsRestAssuredTest extends BaseApiTest {
                 .statusCode(201)
                 .extract().response();
 
-        String productId = createResponse.path("_id");
+        String productId = json(createResponse).path("_id");
 
         givenWithAllure()
             .header("Authorization", token)
@@ -380,7 +345,7 @@ public class ProductsRestAssuredTest extends BaseApiTest {
     @Test
     @DisplayName("CT11 - Create a product from fixed JSON payload")
     void ct11_createProductFromFixedJsonPayload() throws Exception {
-        String token = getAdminToken();
+        String token = adminToken();
 
         InputStream is = getClass().getClassLoader()
             .getResourceAsStream("restassured_serverest/produtos/resources/productPayload.json");
@@ -390,7 +355,7 @@ public class ProductsRestAssuredTest extends BaseApiTest {
         String json = new String(is.readAllBytes(), StandardCharsets.UTF_8);
 
         Map<String, Object> productPayload = JsonPath.from(json).getMap("");
-        productPayload.put("nome", "Product " + System.currentTimeMillis());
+        productPayload.put("nome", "Product " + FakerUtils.uniqueToken());
 
         givenWithAllure()
             .contentType(ContentType.JSON)
@@ -408,12 +373,11 @@ public class ProductsRestAssuredTest extends BaseApiTest {
     @Test
     @DisplayName("CT12 - Prevent deleting a product that is part of a cart")
     void ct12_preventDeletingProductInCart() {
-        String adminToken = getAdminToken();
+        String adminToken = adminToken();
 
         // Create product
-        String productName = "Product " + System.currentTimeMillis();
-        String productPayload = String.format("{\n  \"nome\": \"%s\",\n  \"preco\": 300,\n  \"descricao\": \"Product linked to cart\",\n  \"quantidade\": 10\n}",
-                productName);
+        String productName = "Product " + FakerUtils.uniqueToken();
+        byte[] productPayload = Payloads.product(productName, 300, "Product linked to cart", 10);
 
         Response createProductResponse =
             givenWithAllure()
@@ -427,14 +391,13 @@ public class ProductsRestAssuredTest extends BaseApiTest {
                 .statusCode(201)
                 .extract().response();
 
-        String productId = createProductResponse.path("_id");
+        String productId = json(createProductResponse).path("_id");
 
         // Create non-admin user and login
-        String userEmail = "cart.user." + System.currentTimeMillis() + "@example.com";
+        String userEmail = "cart.user." + FakerUtils.uniqueToken() + "@example.com";
         String userPassword = "SenhaSegura@123";
 
-        String userData = String.format("{\n  \"nome\": \"Cart User\",\n  \"email\": \"%s\",\n  \"password\": \"%s\",\n  \"administrador\": \"false\"\n}",
-                userEmail, userPassword);
+        byte[] userData = Payloads.user("Cart User", userEmail, userPassword, false);
 
         givenWithAllure()
             .contentType(ContentType.JSON)
@@ -445,8 +408,7 @@ public class ProductsRestAssuredTest extends BaseApiTest {
         .then()
             .statusCode(201);
 
-        String loginPayload = String.format("{\n  \"email\": \"%s\",\n  \"password\": \"%s\"\n}",
-                userEmail, userPassword);
+        byte[] loginPayload = Payloads.login(userEmail, userPassword);
 
         Response loginResponse =
             givenWithAllure()
@@ -459,7 +421,7 @@ public class ProductsRestAssuredTest extends BaseApiTest {
                 .statusCode(200)
                 .extract().response();
 
-        String userToken = loginResponse.path("authorization");
+        String userToken = json(loginResponse).path("authorization");
 
         // Ensure no existing cart
         givenWithAllure()
@@ -471,8 +433,7 @@ public class ProductsRestAssuredTest extends BaseApiTest {
             .statusCode(200);
 
         // Create cart
-        String cartBody = String.format("{\n  \"produtos\": [\n    {\n      \"idProduto\": \"%s\",\n      \"quantidade\": 1\n    }\n  ]\n}",
-                productId);
+        byte[] cartBody = Payloads.cart(productId, 1);
 
         givenWithAllure()
             .contentType(ContentType.JSON)
@@ -498,38 +459,7 @@ public class ProductsRestAssuredTest extends BaseApiTest {
     @Test
     @DisplayName("CT13 - Restrict product creation to administrators only")
     void ct13_restrictProductCreationToAdmins() {
-        // Create non-admin user
-        String userEmail = "non.admin." + System.currentTimeMillis() + "@example.com";
-        String userPassword = "SenhaSegura@123";
-
-        String userData = String.format("{\n  \"nome\": \"Non Admin User\",\n  \"email\": \"%s\",\n  \"password\": \"%s\",\n  \"administrador\": \"false\"\n}",
-                userEmail, userPassword);
-
-        givenWithAllure()
-            .contentType(ContentType.JSON)
-            .basePath("/usuarios")
-            .body(userData)
-        .when()
-            .post()
-        .then()
-            .statusCode(201);
-
-        // Login as non-admin
-        String loginPayload = String.format("{\n  \"email\": \"%s\",\n  \"password\": \"%s\"\n}",
-                userEmail, userPassword);
-
-        Response loginResponse =
-            givenWithAllure()
-                .contentType(ContentType.JSON)
-                .basePath("/login")
-                .body(loginPayload)
-            .when()
-                .post()
-            .then()
-                .statusCode(200)
-                .extract().response();
-
-        String nonAdminToken = loginResponse.path("authorization");
+        String nonAdminToken = userToken();
 
         // Try to create product with non-admin token
         String productData = "{\n  \"nome\": \"Restricted Product\",\n  \"preco\": 500,\n  \"descricao\": \"Product should be created only by admins\",\n  \"quantidade\": 5\n}";
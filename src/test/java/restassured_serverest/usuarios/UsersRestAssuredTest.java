@@ -11,8 +11,6 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
-import static org.hamcrest.Matchers.hasKey;
-import static org.hamcrest.Matchers.matchesPattern;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -26,7 +24,11 @@ import org.junit.jupiter.api.parallel.ExecutionMode;
 import io.restassured.http.ContentType;
 import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
+import common_serverest.assertions.FieldFormats;
+import common_serverest.fixtures.FixturePool;
+import common_serverest.json.StreamingListValidator;
 import restassured_serverest.BaseApiTest;
+import restassured_serverest.payloads.Payloads;
 import restassured_serverest.utils.FakerUtils;
 
 @TestInstance(Lifecycle.PER_CLASS)
@@ -36,32 +38,19 @@ public class UsersRestAssuredTest extends BaseApiTest {
     @Test
     @DisplayName("CT01 - List all users and validate JSON structure")
     void ct01_listAllUsersAndValidateStructure() {
-        Response response =
+        byte[] body =
             givenWithAllure()
                 .basePath("/usuarios")
             .when()
                 .get()
             .then()
                 .statusCode(200)
-                .extract().response();
-
-        int quantidade = response.path("quantidade");
-        List<Map<String, Object>> usuarios = response.path("usuarios");
-
-        assertThat(quantidade, greaterThan(0));
-        assertThat(usuarios.size(), greaterThan(0));
+                .extract().asByteArray();
 
-        assertThat(usuarios, everyItem(hasKey("nome")));
-        assertThat(usuarios, everyItem(hasKey("email")));
-        assertThat(usuarios, everyItem(hasKey("password")));
-        assertThat(usuarios, everyItem(hasKey("administrador")));
-        assertThat(usuarios, everyItem(hasKey("_id")));
+        StreamingListValidator.Result usuarios = StreamingListValidator.users().validate(body);
 
-        List<String> emails = usuarios.stream()
-            .map(u -> String.valueOf(u.get("email")))
-            .collect(Collectors.toList());
-
-        assertThat(emails, everyItem(matchesPattern(".+@.+\\..+")));
+        assertThat(usuarios.count(), greaterThan(0));
+        assertThat(usuarios.violations().toString(), usuarios.valid(), equalTo(true));
     }
 
     @Test
@@ -76,7 +65,7 @@ public class UsersRestAssuredTest extends BaseApiTest {
                 .statusCode(200)
                 .extract().response();
 
-        String userId = listResponse.path("usuarios[0]._id");
+        String userId = json(listResponse).path("usuarios[0]._id");
 
         givenWithAllure()
             .basePath("/usuarios/" + userId)
@@ -96,8 +85,7 @@ public class UsersRestAssuredTest extends BaseApiTest {
         String name = FakerUtils.randomName();
         String password = FakerUtils.randomPassword();
 
-        String payload = String.format("{\n  \"nome\": \"%s\",\n  \"email\": \"%s\",\n  \"password\": \"%s\",\n  \"administrador\": \"true\"\n}",
-                name, email, password);
+        byte[] payload = Payloads.user(name, email, password, true);
 
         Response createResponse =
             givenWithAllure()
@@ -112,7 +100,7 @@ public class UsersRestAssuredTest extends BaseApiTest {
                 .body("_id", notNullValue())
                 .extract().response();
 
-        String newUserId = createResponse.path("_id");
+        String newUserId = json(createResponse).path("_id");
 
         givenWithAllure()
             .basePath("/usuarios/" + newUserId)
@@ -129,7 +117,7 @@ public class UsersRestAssuredTest extends BaseApiTest {
     void ct05_duplicateEmailValidation() {
         String duplicateEmail = FakerUtils.randomEmail();
 
-        String user1 = "{\n  \"nome\": \"User 1\",\n  \"email\": \"" + duplicateEmail + "\",\n  \"password\": \"senha123\",\n  \"administrador\": \"false\"\n}";
+        byte[] user1 = Payloads.user("User 1", duplicateEmail, "senha123", false);
 
         givenWithAllure()
             .contentType(ContentType.JSON)
@@ -140,7 +128,7 @@ public class UsersRestAssuredTest extends BaseApiTest {
         .then()
             .statusCode(201);
 
-        String user2 = "{\n  \"nome\": \"User 2\",\n  \"email\": \"" + duplicateEmail + "\",\n  \"password\": \"anotherpassword\",\n  \"administrador\": \"true\"\n}";
+        byte[] user2 = Payloads.user("User 2", duplicateEmail, "anotherpassword", true);
 
         givenWithAllure()
             .contentType(ContentType.JSON)
@@ -166,7 +154,7 @@ public class UsersRestAssuredTest extends BaseApiTest {
                 .statusCode(200)
                 .extract().response();
 
-        List<Map<String, Object>> usuarios = response.path("usuarios");
+        List<Map<String, Object>> usuarios = json(response).path("usuarios");
 
         List<Map<String, Object>> admins = usuarios.stream()
             .filter(u -> "true".equals(String.valueOf(u.get("administrador"))))
@@ -174,8 +162,8 @@ public class UsersRestAssuredTest extends BaseApiTest {
 
         assertThat(admins.size(), greaterThan(0));
 
-        List<Map<String, Object>> filteredUsers = response.jsonPath()
-            .getList("usuarios.findAll { it.administrador == 'true' }");
+        List<Map<String, Object>> filteredUsers = json(response)
+            .path("usuarios.findAll { it.administrador == 'true' }");
 
         assertThat(filteredUsers.size(), greaterThan(0));
 
@@ -199,8 +187,8 @@ public class UsersRestAssuredTest extends BaseApiTest {
                 .statusCode(200)
                 .extract().response();
 
-        int quantidade = response.path("quantidade");
-        List<Map<String, Object>> usuarios = response.path("usuarios");
+        int quantidade = json(response).path("quantidade");
+        List<Map<String, Object>> usuarios = json(response).path("usuarios");
 
         assertThat(quantidade, greaterThanOrEqualTo(0));
 
@@ -223,7 +211,7 @@ public class UsersRestAssuredTest extends BaseApiTest {
                 .statusCode(200)
                 .extract().response();
 
-        Map<String, Object> user = response.path("usuarios[0]");
+        Map<String, Object> user = json(response).path("usuarios[0]");
 
         String adminFlag = String.valueOf(user.get("administrador"));
         assertTrue("true".equals(adminFlag) || "false".equals(adminFlag));
@@ -238,10 +226,9 @@ public class UsersRestAssuredTest extends BaseApiTest {
     @Test
     @DisplayName("CT08 - Validate formats with regular expressions")
     void ct08_validateFormatsWithRegularExpressions() {
-        String newEmail = "test.regex." + System.currentTimeMillis() + "@example.com";
+        String newEmail = "test.regex." + FakerUtils.uniqueToken() + "@example.com";
 
-        String userData = String.format("{\n  \"nome\": \"%s\",\n  \"email\": \"%s\",\n  \"password\": \"%s\",\n  \"administrador\": \"false\"\n}",
-                "Regex Test", newEmail, "StrongPassword@123");
+        byte[] userData = Payloads.user("Regex Test", newEmail, "StrongPassword@123", false);
 
         Response createResponse =
             givenWithAllure()
@@ -254,7 +241,7 @@ public class UsersRestAssuredTest extends BaseApiTest {
                 .statusCode(201)
                 .extract().response();
 
-        String userId = createResponse.path("_id");
+        String userId = json(createResponse).path("_id");
 
         givenWithAllure()
             .basePath("/usuarios/" + userId)
@@ -262,9 +249,9 @@ public class UsersRestAssuredTest extends BaseApiTest {
             .get()
         .then()
             .statusCode(200)
-            .body("email", matchesPattern(".+@.+\\..+"))
-            .body("nome", matchesPattern("[A-Za-z\\s]+"))
-            .body("_id", matchesPattern("[A-Za-z0-9]+"));
+            .body("email", FieldFormats.EMAIL.matcher())
+            .body("nome", FieldFormats.PERSON_NAME.matcher())
+            .body("_id", FieldFormats.ID.matcher());
     }
 
     @Test
@@ -281,7 +268,7 @@ public class UsersRestAssuredTest extends BaseApiTest {
                 .body("errorMessage", nullValue())
                 .extract().response();
 
-        Map<String, Object> user = response.path("usuarios[0]");
+        Map<String, Object> user = json(response).path("usuarios[0]");
 
         assertThat(user.containsKey("cpf"), equalTo(false));
         assertThat(user.containsKey("phone"), equalTo(false));
@@ -314,7 +301,7 @@ public class UsersRestAssuredTest extends BaseApiTest {
                 .statusCode(200)
                 .extract().response();
 
-        List<Map<String, Object>> usuarios = searchResponse.path("usuarios");
+        List<Map<String, Object>> usuarios = json(searchResponse).path("usuarios");
         Map<String, Object> user = usuarios.get(0);
 
         assertThat(String.valueOf(user.get("email")), equalTo(expectedEmail));
@@ -326,8 +313,7 @@ public class UsersRestAssuredTest extends BaseApiTest {
     void ct11_prepareDataForNestedObjectValidation() {
         String complexEmail = FakerUtils.randomEmail();
 
-        String complexData = String.format("{\n  \"nome\": \"%s\",\n  \"email\": \"%s\",\n  \"password\": \"%s\",\n  \"administrador\": \"true\"\n}",
-                "Complex User", complexEmail, "senha123");
+        byte[] complexData = Payloads.user("Complex User", complexEmail, "senha123", true);
 
         Response response =
             givenWithAllure()
@@ -340,8 +326,8 @@ public class UsersRestAssuredTest extends BaseApiTest {
                 .statusCode(201)
                 .extract().response();
 
-        String message = response.path("message");
-        String id = response.path("_id");
+        String message = json(response).path("message");
+        String id = json(response).path("_id");
 
         assertThat(message, notNullValue());
         assertThat(message, equalTo("Cadastro realizado com sucesso"));
@@ -386,7 +372,7 @@ public class UsersRestAssuredTest extends BaseApiTest {
                 .body("message", equalTo("Cadastro realizado com sucesso"))
                 .extract().response();
 
-        String userId = createResponse.path("_id");
+        String userId = json(createResponse).path("_id");
 
         givenWithAllure()
             .basePath("/usuarios/" + userId)
@@ -410,89 +396,29 @@ public class UsersRestAssuredTest extends BaseApiTest {
     @Test
     @DisplayName("CT14 - Prevent deleting user that has an associated cart")
     void ct14_preventDeletingUserThatHasAssociatedCart() {
-        String userEmail = FakerUtils.randomEmail();
-        String userPassword = "SenhaSegura@123";
-
-        String userData = String.format("{\n  \"nome\": \"%s\",\n  \"email\": \"%s\",\n  \"password\": \"%s\",\n  \"administrador\": \"true\"\n}",
-                "User With Cart", userEmail, userPassword);
-
-        Response createUserResponse =
-            givenWithAllure()
-                .contentType(ContentType.JSON)
-                .basePath("/usuarios")
-                .body(userData)
-            .when()
-                .post()
-            .then()
-                .statusCode(201)
-                .body("message", equalTo("Cadastro realizado com sucesso"))
-                .extract().response();
+        // Usuário sem carrinho + produto em estoque vindos do pool
+        try (FixturePool.PooledFixture fixture = FixturePool.shared().lease()) {
+            byte[] cartBody = Payloads.cart(fixture.productId(), 1);
 
-        String userId = createUserResponse.path("_id");
-
-        String loginPayload = String.format("{\n  \"email\": \"%s\",\n  \"password\": \"%s\"\n}",
-                userEmail, userPassword);
-
-        Response loginResponse =
             givenWithAllure()
                 .contentType(ContentType.JSON)
-                .basePath("/login")
-                .body(loginPayload)
+                .header("Authorization", fixture.token())
+                .basePath("/carrinhos")
+                .body(cartBody)
             .when()
                 .post()
             .then()
-                .statusCode(200)
-                .extract().response();
-
-        String userToken = loginResponse.path("authorization");
-
-        String productName = "Product for user cart " + System.currentTimeMillis();
-        String productData = String.format("{\n  \"nome\": \"%s\",\n  \"preco\": 100,\n  \"descricao\": \"Product associated to user cart\",\n  \"quantidade\": 5\n}",
-                productName);
+                .statusCode(201);
 
-        Response productResponse =
             givenWithAllure()
-                .contentType(ContentType.JSON)
-                .header("Authorization", userToken)
-                .basePath("/produtos")
-                .body(productData)
+                .basePath("/usuarios/" + fixture.userId())
             .when()
-                .post()
+                .delete()
             .then()
-                .statusCode(201)
-                .extract().response();
-
-        String productId = productResponse.path("_id");
-
-        String cartBody = String.format("{\n  \"produtos\": [ { \"idProduto\": \"%s\", \"quantidade\": 1 } ]\n}",
-                productId);
-
-        givenWithAllure()
-            .header("Authorization", userToken)
-            .basePath("/carrinhos/cancelar-compra")
-        .when()
-            .delete()
-        .then()
-            .statusCode(200);
-
-        givenWithAllure()
-            .contentType(ContentType.JSON)
-            .header("Authorization", userToken)
-            .basePath("/carrinhos")
-            .body(cartBody)
-        .when()
-            .post()
-        .then()
-            .statusCode(201);
-
-        givenWithAllure()
-            .basePath("/usuarios/" + userId)
-        .when()
-            .delete()
-        .then()
-            .statusCode(400)
-            .body("message", equalTo("Não é permitido excluir usuário com carrinho cadastrado"))
-            .body("idCarrinho", notNullValue());
+                .statusCode(400)
+                .body("message", equalTo("Não é permitido excluir usuário com carrinho cadastrado"))
+                .body("idCarrinho", notNullValue());
+        }
     }
 
     @Test
@@ -513,11 +439,9 @@ public class UsersRestAssuredTest extends BaseApiTest {
         String email1 = FakerUtils.randomEmail();
         String email2 = FakerUtils.randomEmail();
 
-        String user1 = String.format("{\n  \"nome\": \"%s\",\n  \"email\": \"%s\",\n  \"password\": \"%s\",\n  \"administrador\": \"false\"\n}",
-                "User One", email1, "Senha123@");
+        byte[] user1 = Payloads.user("User One", email1, "Senha123@", false);
 
-        String user2 = String.format("{\n  \"nome\": \"%s\",\n  \"email\": \"%s\",\n  \"password\": \"%s\",\n  \"administrador\": \"true\"\n}",
-                "User Two", email2, "Senha456@");
+        byte[] user2 = Payloads.user("User Two", email2, "Senha456@", true);
 
         Response createUser1Response =
             givenWithAllure()
@@ -539,10 +463,9 @@ public class UsersRestAssuredTest extends BaseApiTest {
         .then()
             .statusCode(201);
 
-        String userId1 = createUser1Response.path("_id");
+        String userId1 = json(createUser1Response).path("_id");
 
-        String updatePayload = String.format("{\n  \"nome\": \"%s\",\n  \"email\": \"%s\",\n  \"password\": \"%s\",\n  \"administrador\": \"true\"\n}",
-                "User One Updated", email2, "Senha123@");
+        byte[] updatePayload = Payloads.user("User One Updated", email2, "Senha123@", true);
 
         givenWithAllure()
             .contentType(ContentType.JSON)